@@ -1,8 +1,12 @@
 package com.zipsoon.api.application.estate;
 
+import com.zipsoon.api.domain.estate.EstateSummary;
+import com.zipsoon.api.domain.user.DisabledScoreTypes;
 import com.zipsoon.api.domain.user.UserFavoriteEstate;
 import com.zipsoon.api.infrastructure.exception.custom.ServiceException;
 import com.zipsoon.api.infrastructure.exception.model.ErrorCode;
+import com.zipsoon.api.infrastructure.cache.ScoreTypeCatalog;
+import com.zipsoon.api.infrastructure.index.EstateSpatialIndex;
 import com.zipsoon.api.infrastructure.repository.estate.ApiEstateRepository;
 import com.zipsoon.api.infrastructure.repository.user.UserFavoriteEstateRepository;
 import com.zipsoon.api.interfaces.api.common.dto.PageResponse;
@@ -10,12 +14,16 @@ import com.zipsoon.api.interfaces.api.estate.dto.*;
 import com.zipsoon.common.domain.Estate;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.ibatis.cursor.Cursor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.Collections;
 import java.util.List;
-import java.util.Objects;
+import java.util.Map;
+import java.util.function.Consumer;
 
 @Slf4j
 @Service
@@ -24,8 +32,12 @@ public class EstateService {
     private final ScoreService scoreService;
     private final ApiEstateRepository apiEstateRepository;
     private final UserFavoriteEstateRepository userFavoriteEstateRepository;
+    private final EstateSpatialIndex estateSpatialIndex;
+    private final ScoreTypeCatalog scoreTypeCatalog;
     private static final int MAX_RESULTS_PER_ZOOM = 1000;
     private static final int MAX_RESULTS_HIGH_ZOOM = 500;
+    private static final int CLUSTER_CELL_PIXELS = 64;   // 클러스터 격자 한 변의 화면 픽셀 수
+    private static final int TILE_SIZE_PIXELS = 256;     // 줌 0에서 전 세계(360도)를 표현하는 픽셀 수
 
     /**
      * 뷰포트 내의 매물 목록을 조회합니다.
@@ -41,17 +53,15 @@ public class EstateService {
         log.debug("[SVC:IN] findEstatesInViewport(viewport={}, userId={})", 
                 formatViewport(request), userId != null ? userId : "guest");
         
-        if (request.swLng() >= request.neLng() || request.swLat() >= request.neLat()) {
-            log.warn("[SVC:ERR] 유효하지 않은 뷰포트 좌표: {}", formatViewport(request));
-            throw new ServiceException(ErrorCode.BAD_REQUEST, "뷰포트 좌표가 유효하지 않습니다.");
-        }
+        validateViewport(request);
 
         // 조회 개수 제한 계산
         var limit = calculateResultLimit(request.zoom());
         log.debug("[SVC:PARAM] 뷰포트 내 매물 검색 제한: {}", limit);
 
-        // 매물 조회
-        var estates = apiEstateRepository.findAllInViewport(request, limit);
+        // 매물과 점수 요약 조회 (사용자 비활성화 점수 유형 반영)
+        var disabledScoreTypeIds = scoreService.getDisabledScoreTypeIds(userId);
+        var estates = findEstateSummariesInViewport(request, limit, disabledScoreTypeIds);
 
         // 조회 결과가 없는 경우
         if (estates.isEmpty()) {
@@ -65,18 +75,8 @@ public class EstateService {
         log.info("[SVC:RESULT] 뷰포트 내 {} 개의 매물 발견 (userId: {})", 
                 estates.size(), userId != null ? userId : "guest");
 
-        // 모든 매물에 점수 정보 추가하여 응답 생성
         var estateResponses = estates.stream()
-            .map(estate -> {
-                try {
-                    ScoreSummaryResponse scoreSummary = scoreService.getScoreSummary(estate.getId(), userId);
-                    return EstateResponse.from(estate, scoreSummary);
-                } catch (Exception e) {
-                    log.error("[SVC:ERR] 매물 {} 점수 계산 오류: {}", estate.getId(), e.getMessage());
-                    return null;
-                }
-            })
-            .filter(Objects::nonNull)
+            .map(summary -> EstateResponse.from(summary, scoreTypeCatalog::getName))
             .toList();
             
         // 메서드 종료 로깅
@@ -85,6 +85,123 @@ public class EstateService {
         return estateResponses;
     }
 
+    /**
+     * 뷰포트 내의 매물 목록을 열(column) 형식으로 조회합니다.
+     * 조회 조건과 결과는 {@link #findEstatesInViewport}와 같고, 응답 형식만 다릅니다.
+     *
+     * @param request 뷰포트 요청 정보
+     * @param userId 사용자 ID (로그인한 경우에만 제공)
+     * @return 열 형식 매물 응답
+     * @throws ServiceException 뷰포트 좌표가 유효하지 않은 경우
+     */
+    @Transactional(readOnly = true)
+    public EstateColumnsResponse findEstateColumnsInViewport(ViewportRequest request, Long userId) {
+        log.debug("[SVC:IN] findEstateColumnsInViewport(viewport={}, userId={})",
+                formatViewport(request), userId != null ? userId : "guest");
+
+        validateViewport(request);
+
+        var limit = calculateResultLimit(request.zoom());
+        var disabledScoreTypeIds = scoreService.getDisabledScoreTypeIds(userId);
+        var estates = findEstateSummariesInViewport(request, limit, disabledScoreTypeIds);
+
+        var response = EstateColumnsResponse.from(estates, scoreTypeCatalog::getName);
+        log.debug("[SVC:OUT] findEstateColumnsInViewport() 완료 - 반환된 매물 수: {}", response.count());
+        return response;
+    }
+
+    /**
+     * 뷰포트 내의 매물을 한 건씩 전달합니다. (스트리밍 응답용)
+     * 메모리 공간 인덱스가 준비되지 않았으면 데이터베이스 커서로 fetchSize 단위씩 읽으므로,
+     * 결과 목록 전체를 메모리에 만들지 않습니다. 커서는 이 메서드의 트랜잭션 안에서만 유효하므로
+     * 응답을 쓰는 스레드에서 호출해야 합니다.
+     *
+     * @param request 뷰포트 요청 정보
+     * @param userId 사용자 ID (로그인한 경우에만 제공)
+     * @param consumer 매물 응답을 받을 콜백 (응답 스트림에 바로 기록)
+     * @return 전달한 매물 수
+     * @throws ServiceException 뷰포트 좌표가 유효하지 않은 경우
+     */
+    @Transactional(readOnly = true)
+    public int streamEstatesInViewport(ViewportRequest request, Long userId, Consumer<EstateResponse> consumer) {
+        log.debug("[SVC:IN] streamEstatesInViewport(viewport={}, userId={})",
+                formatViewport(request), userId != null ? userId : "guest");
+
+        validateViewport(request);
+
+        var limit = calculateResultLimit(request.zoom());
+        var disabledScoreTypeIds = scoreService.getDisabledScoreTypeIds(userId);
+
+        int count = 0;
+        if (estateSpatialIndex.isReady()) {
+            log.debug("[SVC:PARAM] 메모리 공간 인덱스에서 조회");
+            for (EstateSummary summary : estateSpatialIndex.query(request, limit)) {
+                consumer.accept(EstateResponse.from(summary.personalize(disabledScoreTypeIds), scoreTypeCatalog::getName));
+                count++;
+            }
+        } else {
+            try (Cursor<EstateSummary> cursor = apiEstateRepository.openCursorInViewportWithScores(request, limit)) {
+                for (EstateSummary summary : cursor) {
+                    consumer.accept(EstateResponse.from(summary.personalize(disabledScoreTypeIds), scoreTypeCatalog::getName));
+                    count++;
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        log.debug("[SVC:OUT] streamEstatesInViewport() 완료 - 전달한 매물 수: {}", count);
+        return count;
+    }
+
+    /**
+     * 뷰포트 내 매물 요약을 조회합니다.
+     * 메모리 공간 인덱스가 준비되어 있으면 인덱스에서, 아니면 데이터베이스에서 조회하며,
+     * 어느 쪽이든 배치가 미리 계산한 점수 요약에 사용자 비활성화 설정만 차감합니다.
+     */
+    private List<EstateSummary> findEstateSummariesInViewport(ViewportRequest request, int limit, DisabledScoreTypes disabledScoreTypeIds) {
+        List<EstateSummary> summaries;
+        if (estateSpatialIndex.isReady()) {
+            log.debug("[SVC:PARAM] 메모리 공간 인덱스에서 조회");
+            summaries = estateSpatialIndex.query(request, limit);
+        } else {
+            summaries = apiEstateRepository.findAllInViewportWithScores(request, limit);
+        }
+        return summaries.stream()
+            .map(summary -> summary.personalize(disabledScoreTypeIds))
+            .toList();
+    }
+
+    /**
+     * 뷰포트 내의 매물을 격자 클러스터로 집계해 조회합니다.
+     * 낮은 줌 레벨(14 미만)에서 개별 매물 대신 사용하며, 격자 크기가 화면 픽셀 기준으로 고정되므로
+     * 응답 크기는 데이터 규모와 무관하게 화면 크기에만 비례합니다.
+     *
+     * @param request 뷰포트 요청 정보
+     * @param userId 사용자 ID (로그인한 경우에만 제공)
+     * @return 클러스터 응답 목록
+     * @throws ServiceException 뷰포트 좌표가 유효하지 않은 경우
+     */
+    @Transactional(readOnly = true)
+    public List<EstateClusterResponse> findEstateClustersInViewport(ViewportRequest request, Long userId) {
+        log.debug("[SVC:IN] findEstateClustersInViewport(viewport={}, userId={})",
+                formatViewport(request), userId != null ? userId : "guest");
+
+        validateViewport(request);
+
+        var cellSize = calculateClusterCellSize(request.zoom());
+        log.debug("[SVC:PARAM] 클러스터 격자 크기: {}도", cellSize);
+
+        var disabledScoreTypeIds = scoreService.getDisabledScoreTypeIds(userId);
+        var clusters = apiEstateRepository.findClustersInViewport(request, cellSize, disabledScoreTypeIds);
+
+        log.info("[SVC:RESULT] 뷰포트 내 클러스터 {}개 (userId: {})",
+                clusters.size(), userId != null ? userId : "guest");
+        log.debug("[SVC:OUT] findEstateClustersInViewport() 완료");
+
+        return clusters;
+    }
+
     /**
      * 매물 상세 정보를 조회합니다.
      *
@@ -200,18 +317,20 @@ public class EstateService {
                 favorites.size(), total);
 
         // 응답 데이터 변환 (점수 정보 포함)
+        Map<Long, ScoreSummaryResponse> scoreSummaries;
+        try {
+            scoreSummaries = scoreService.getScoreSummaries(
+                favorites.stream().map(Estate::getId).toList(), userId);
+        } catch (Exception e) {
+            log.error("[SVC:ERR] 찜한 매물 점수 계산 오류: {}", e.getMessage());
+            // 점수 정보 없이 기본 매물 정보 반환
+            scoreSummaries = Map.of();
+        }
+
+        var emptySummary = new ScoreSummaryResponse(0.0, List.of());
+        var summaries = scoreSummaries;
         var responseList = favorites.stream()
-            .map(estate -> {
-                try {
-                    var scoreSummary = scoreService.getScoreSummary(estate.getId(), userId);
-                    return EstateResponse.from(estate, scoreSummary);
-                } catch (Exception e) {
-                    log.error("[SVC:ERR] 매물 {} 점수 계산 오류: {}", estate.getId(), e.getMessage());
-                    // 점수 정보 없이 기본 매물 정보 반환
-                    var emptySummary = new ScoreSummaryResponse(0.0, List.of());
-                    return EstateResponse.from(estate, emptySummary);
-                }
-            })
+            .map(estate -> EstateResponse.from(estate, summaries.getOrDefault(estate.getId(), emptySummary)))
             .toList();
         
         var response = new PageResponse<>(responseList, page, size, total);
@@ -228,6 +347,27 @@ public class EstateService {
             request.swLng(), request.swLat(), request.neLng(), request.neLat(), request.zoom());
     }
 
+    /**
+     * 뷰포트 좌표 유효성 검증
+     * 스트리밍 응답은 본문을 쓰기 전에 이 메서드로 먼저 검증합니다.
+     *
+     * @param request 뷰포트 요청 정보
+     * @throws ServiceException 남서쪽 좌표가 북동쪽 좌표보다 크거나 같은 경우
+     */
+    public void validateViewport(ViewportRequest request) {
+        if (request.swLng() >= request.neLng() || request.swLat() >= request.neLat()) {
+            log.warn("[SVC:ERR] 유효하지 않은 뷰포트 좌표: {}", formatViewport(request));
+            throw new ServiceException(ErrorCode.BAD_REQUEST, "뷰포트 좌표가 유효하지 않습니다.");
+        }
+    }
+
+    /**
+     * 확대 레벨에 따른 클러스터 격자 크기(도 단위) 계산
+     */
+    private double calculateClusterCellSize(int zoom) {
+        return CLUSTER_CELL_PIXELS * 360.0 / (TILE_SIZE_PIXELS * Math.pow(2, zoom));
+    }
+
     /**
      * 확대 레벨에 따른 결과 제한 개수 계산
      */
@@ -1,8 +1,12 @@
 package com.zipsoon.api.application.estate;
 
+import com.zipsoon.api.domain.user.DisabledScoreTypes;
 import com.zipsoon.api.domain.user.UserDisabledScoreType;
+import com.zipsoon.api.infrastructure.cache.DisabledScoreTypeCache;
+import com.zipsoon.api.infrastructure.cache.ScoreTypeCatalog;
 import com.zipsoon.api.infrastructure.repository.estate.ApiScoreRepository;
 import com.zipsoon.api.infrastructure.repository.user.UserDisabledScoreTypeRepository;
+import com.zipsoon.api.interfaces.api.estate.dto.EstateScoreResponse;
 import com.zipsoon.api.interfaces.api.estate.dto.ScoreDetailsResponse;
 import com.zipsoon.api.interfaces.api.estate.dto.ScoreResponse;
 import com.zipsoon.api.interfaces.api.estate.dto.ScoreSummaryResponse;
@@ -12,9 +16,10 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
-import java.util.Set;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -22,6 +27,8 @@ import java.util.Set;
 public class ScoreService {
     private final ApiScoreRepository apiScoreRepository;
     private final UserDisabledScoreTypeRepository userDisabledScoreTypeRepository;
+    private final DisabledScoreTypeCache disabledScoreTypeCache;
+    private final ScoreTypeCatalog scoreTypeCatalog;
 
     /**
      * 매물의 점수 요약 정보를 조회합니다.
@@ -34,7 +41,7 @@ public class ScoreService {
     public ScoreSummaryResponse getScoreSummary(Long estateId, Long userId) {
         log.debug("[SVC:IN] getScoreSummary(estateId={}, userId={})", estateId, userId != null ? userId : "guest");
 
-        var scoreFactors = apiScoreRepository.findScoresByEstateId(estateId);
+        var scoreFactors = findScoreFactors(estateId);
         if (scoreFactors.isEmpty()) {
             log.debug("[SVC:RESULT] 매물 {}에 대한 점수 정보 없음", estateId);
             log.debug("[SVC:OUT] getScoreSummary() 완료 - 점수 정보 없음");
@@ -50,9 +57,79 @@ public class ScoreService {
             return new ScoreSummaryResponse(0.0, List.of());
         }
 
-        var totalScore = calculateTotalScore(filteredFactors);
+        var summary = summarize(filteredFactors);
+
+        log.debug("[SVC:RESULT] 매물 {} 총점: {}, 상위 요소 {}개", estateId, summary.total(), summary.topFactors().size());
+        log.debug("[SVC:OUT] getScoreSummary() 완료");
+        
+        return summary;
+    }
+
+    /**
+     * 여러 매물의 점수 요약 정보를 한 번에 조회합니다.
+     * 점수는 단일 쿼리로 일괄 조회하고, 사용자 비활성화 설정도 요청당 한 번만 조회합니다.
+     *
+     * @param estateIds 매물 ID 목록
+     * @param userId 사용자 ID (로그인한 경우에만 제공)
+     * @return 매물 ID별 점수 요약 정보 (점수가 없는 매물은 빈 요약)
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, ScoreSummaryResponse> getScoreSummaries(List<Long> estateIds, Long userId) {
+        log.debug("[SVC:IN] getScoreSummaries(estateIds={}개, userId={})", estateIds.size(), userId != null ? userId : "guest");
+
+        var disabledScoreTypeIds = getDisabledScoreTypeIds(userId);
+        var scoresByEstateId = apiScoreRepository.findScoresByEstateIds(estateIds).stream()
+            .filter(score -> !disabledScoreTypeIds.contains(score.scoreTypeId().intValue()))
+            .collect(Collectors.groupingBy(
+                EstateScoreResponse::estateId,
+                Collectors.mapping(this::toScoreResponse, Collectors.toList())
+            ));
+
+        log.debug("[SVC:PARAM] 점수 보유 매물 {}개, 비활성화 점수 유형 {}개", scoresByEstateId.size(), disabledScoreTypeIds.size());
+
+        Map<Long, ScoreSummaryResponse> summaries = new HashMap<>(estateIds.size() * 2);
+        for (Long estateId : estateIds) {
+            var factors = scoresByEstateId.getOrDefault(estateId, List.of());
+            summaries.put(estateId, summarize(factors));
+        }
+
+        log.debug("[SVC:OUT] getScoreSummaries() 완료 - 요약 {}개", summaries.size());
+        return summaries;
+    }
+
+    /**
+     * 매물의 점수 요소를 조회하고 점수 유형 정보를 카탈로그에서 채웁니다.
+     */
+    private List<ScoreResponse> findScoreFactors(Long estateId) {
+        return apiScoreRepository.findScoresByEstateId(estateId).stream()
+            .map(this::toScoreResponse)
+            .toList();
+    }
+
+    /**
+     * 점수 조회 결과에 점수 유형 이름과 설명을 채워 점수 요소로 변환합니다.
+     */
+    private ScoreResponse toScoreResponse(EstateScoreResponse score) {
+        var scoreType = scoreTypeCatalog.get(score.scoreTypeId());
+        return new ScoreResponse(
+            score.scoreTypeId(),
+            scoreType != null ? scoreType.getName() : null,
+            scoreType != null ? scoreType.getDescription() : null,
+            score.normalizedScore()
+        );
+    }
 
-        var topFactors = filteredFactors.stream()
+    /**
+     * 필터링된 점수 요소로 평균 점수와 상위 3개 요소를 계산합니다.
+     */
+    private ScoreSummaryResponse summarize(List<ScoreResponse> factors) {
+        if (factors.isEmpty()) {
+            return new ScoreSummaryResponse(0.0, List.of());
+        }
+
+        var totalScore = calculateTotalScore(factors);
+
+        var topFactors = factors.stream()
             .sorted((f1, f2) -> Double.compare(f2.normalizedScore(), f1.normalizedScore()))
             .limit(3)
             .map(factor -> new ScoreSummaryResponse.TopFactorResponse(
@@ -62,9 +139,6 @@ public class ScoreService {
             ))
             .toList();
 
-        log.debug("[SVC:RESULT] 매물 {} 총점: {}, 상위 요소 {}개", estateId, totalScore, topFactors.size());
-        log.debug("[SVC:OUT] getScoreSummary() 완료");
-        
         return new ScoreSummaryResponse(totalScore, topFactors);
     }
 
@@ -79,7 +153,7 @@ public class ScoreService {
     public ScoreDetailsResponse getScoreDetails(Long estateId, Long userId) {
         log.debug("[SVC:IN] getScoreDetails(estateId={}, userId={})", estateId, userId != null ? userId : "guest");
 
-        var scoreFactors = apiScoreRepository.findScoresByEstateId(estateId);
+        var scoreFactors = findScoreFactors(estateId);
         if (scoreFactors.isEmpty()) {
             log.debug("[SVC:RESULT] 매물 {}에 대한 점수 정보 없음", estateId);
             log.debug("[SVC:OUT] getScoreDetails() 완료 - 점수 정보 없음");
@@ -125,7 +199,7 @@ public class ScoreService {
         }
 
         // 사용자가 비활성화한 점수 유형 ID 목록 조회
-        Set<Integer> disabledScoreTypeIds = getDisabledScoreTypeIds(userId);
+        DisabledScoreTypes disabledScoreTypeIds = getDisabledScoreTypeIds(userId);
         if (disabledScoreTypeIds.isEmpty()) {
             log.debug("[SVC:PARAM] 사용자 {} - 비활성화된 점수 유형 없음", userId);
             return scoreFactors;
@@ -143,16 +217,19 @@ public class ScoreService {
     }
 
     /**
-     * 사용자가 비활성화한 점수 유형 ID 목록을 조회합니다.
+     * 사용자가 비활성화한 점수 유형 ID 목록을 조회합니다. (사용자별 캐시 사용)
+     *
+     * @param userId 사용자 ID (비인증 사용자는 null)
+     * @return 비활성화된 점수 유형 ID 집합 (비인증 사용자는 빈 집합)
      */
-    private Set<Integer> getDisabledScoreTypeIds(Long userId) {
+    public DisabledScoreTypes getDisabledScoreTypeIds(Long userId) {
         if (userId == null) {
-            return Collections.emptySet();
+            return DisabledScoreTypes.empty();
         }
 
-        var disabledScoreTypeIds = userDisabledScoreTypeRepository.findDisabledScoreTypeIdsByUserId(userId);
+        var disabledScoreTypeIds = disabledScoreTypeCache.get(userId);
         log.debug("[SVC:PARAM] 사용자 {} 비활성화 점수 유형: {}", userId, disabledScoreTypeIds);
-        return Set.copyOf(disabledScoreTypeIds);
+        return disabledScoreTypeIds;
     }
 
     /**
@@ -161,19 +238,11 @@ public class ScoreService {
     @Transactional
     public void disableScoreType(Long userId, Integer scoreTypeId) {
         log.debug("[SVC:IN] disableScoreType(userId={}, scoreTypeId={})", userId, scoreTypeId);
-        
-        // 이미 비활성화되어 있는지 확인
-        boolean alreadyDisabled = userDisabledScoreTypeRepository.findDisabledScoreTypeIdsByUserId(userId)
-            .contains(scoreTypeId);
-            
-        if (alreadyDisabled) {
-            log.debug("[SVC:RESULT] 이미 비활성화되어 있음: 사용자={}, 점수유형={}", userId, scoreTypeId);
-            log.debug("[SVC:OUT] disableScoreType() 완료 - 이미 비활성화됨");
-            return;
-        }
-        
+
+        // 인스턴스별 캐시는 오래된 값일 수 있으므로 사전 확인 없이 기록 (중복 저장은 무시됨)
         var disabledScoreType = UserDisabledScoreType.of(userId, scoreTypeId);
         userDisabledScoreTypeRepository.save(disabledScoreType);
+        disabledScoreTypeCache.invalidate(userId);
         
         log.info("[SVC:RESULT] 점수 유형 비활성화 완료: 사용자={}, 점수유형={}", userId, scoreTypeId);
         log.debug("[SVC:OUT] disableScoreType() 완료");
@@ -185,18 +254,10 @@ public class ScoreService {
     @Transactional
     public void enableScoreType(Long userId, Integer scoreTypeId) {
         log.debug("[SVC:IN] enableScoreType(userId={}, scoreTypeId={})", userId, scoreTypeId);
-        
-        // 이미 활성화되어 있는지 확인
-        boolean alreadyEnabled = !userDisabledScoreTypeRepository.findDisabledScoreTypeIdsByUserId(userId)
-            .contains(scoreTypeId);
-            
-        if (alreadyEnabled) {
-            log.debug("[SVC:RESULT] 이미 활성화되어 있음: 사용자={}, 점수유형={}", userId, scoreTypeId);
-            log.debug("[SVC:OUT] enableScoreType() 완료 - 이미 활성화됨");
-            return;
-        }
-        
+
+        // 인스턴스별 캐시는 오래된 값일 수 있으므로 사전 확인 없이 삭제 (없는 설정 삭제는 무시됨)
         userDisabledScoreTypeRepository.delete(userId, scoreTypeId);
+        disabledScoreTypeCache.invalidate(userId);
         
         log.info("[SVC:RESULT] 점수 유형 활성화 완료: 사용자={}, 점수유형={}", userId, scoreTypeId);
         log.debug("[SVC:OUT] enableScoreType() 완료");
@@ -209,8 +270,8 @@ public class ScoreService {
     public List<ScoreTypeResponse> getAllScoreTypes(Long userId) {
         log.debug("[SVC:IN] getAllScoreTypes(userId={})", userId != null ? userId : "guest");
 
-        // 모든 점수 유형 조회
-        var scoreTypes = apiScoreRepository.findAllScoreTypes();
+        // 활성 점수 유형 조회 (메모리 카탈로그)
+        var scoreTypes = scoreTypeCatalog.getActiveTypes();
         log.debug("[SVC:PARAM] 전체 점수 유형 {}개 조회됨", scoreTypes.size());
 
         // 비활성화된 점수 유형 ID 조회
@@ -219,9 +280,9 @@ public class ScoreService {
         // 사용자별 활성화 상태가 반영된 점수 유형 응답 생성
         var result = scoreTypes.stream()
             .map(scoreType -> {
-                var id = (Integer) scoreType.get("id");
-                var name = (String) scoreType.get("name");
-                var description = (String) scoreType.get("description");
+                var id = scoreType.getId().intValue();
+                var name = scoreType.getName();
+                var description = scoreType.getDescription();
 
                 // 비활성화 목록에 있으면 enabled=false, 없으면 enabled=true
                 var enabled = !disabledScoreTypeIds.contains(id);
@@ -1,5 +1,6 @@
 package com.zipsoon.api.application.user;
 
+import com.zipsoon.api.infrastructure.cache.UserPrincipalCache;
 import com.zipsoon.api.infrastructure.repository.user.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -11,9 +12,12 @@ import org.springframework.transaction.annotation.Transactional;
 public class UserService {
 
     private final UserRepository userRepository;
+    private final UserPrincipalCache userPrincipalCache;
 
+    // 탈퇴 후 남은 토큰이 인증되지 않도록 인증 주체 캐시도 무효화
     public void deleteAccount(Long userId) {
         userRepository.delete(userId);
+        userPrincipalCache.invalidate(userId);
     }
 
 }
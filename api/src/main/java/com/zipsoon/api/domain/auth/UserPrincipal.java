@@ -28,6 +28,22 @@ public class UserPrincipal {
         );
     }
 
+    /**
+     * 토큰 클레임 값으로 인증 주체를 생성합니다. (데이터베이스 조회 없음)
+     *
+     * @param id 사용자 ID
+     * @param email 이메일 (없으면 null)
+     * @param role 역할
+     * @return 인증 주체
+     */
+    public static UserPrincipal of(Long id, String email, Role role) {
+        return new UserPrincipal(
+                id,
+                email,
+                Collections.singletonList(new SimpleGrantedAuthority(role.name()))
+        );
+    }
+
     public String getName() {
         return id.toString();
     }
@@ -0,0 +1,96 @@
+package com.zipsoon.api.domain.estate;
+
+import com.zipsoon.api.domain.user.DisabledScoreTypes;
+import com.zipsoon.common.domain.EstateType;
+import com.zipsoon.common.domain.TradeType;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+
+/**
+ * 지도 조회용 매물 요약 모델
+ * 지도 표시에 필요한 매물 컬럼과 점수 요약(평균, 점수 내림차순 요소)만 담습니다.
+ */
+@Getter
+@Builder(toBuilder = true)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class EstateSummary {
+    public static final int TOP_FACTOR_LIMIT = 3;
+
+    private Long id;
+    private String estateName;
+    private EstateType estateType;
+    private TradeType tradeType;
+    private BigDecimal price;
+    private BigDecimal rentPrice;
+    private BigDecimal areaMeter;
+    private double latitude;
+    private double longitude;
+
+    // 점수 요약 (배치가 미리 계산한 estate_score_summary, 요소는 점수 내림차순, 이름은 점수 유형 카탈로그에서 조회)
+    private Double totalScore;
+    private Long[] factorIds;
+    private Double[] factorScores;
+    private double scoreSum;
+    private int scoreCount;
+
+    /**
+     * 점수 요소 개수를 반환합니다.
+     */
+    public int getFactorCount() {
+        return factorIds != null ? factorIds.length : 0;
+    }
+
+    /**
+     * 전체 점수 요소를 가진 요약에 사용자 비활성화 설정을 적용합니다.
+     * 미리 계산된 합계와 개수에서 비활성화된 요소만 차감해 평균을 구하고,
+     * 점수 내림차순으로 정렬된 요소 중 앞에서부터 상위 {@value #TOP_FACTOR_LIMIT}개를 고릅니다.
+     *
+     * @param disabledScoreTypeIds 비활성화된 점수 유형 ID
+     * @return 개인화된 요약
+     */
+    public EstateSummary personalize(DisabledScoreTypes disabledScoreTypeIds) {
+        int count = getFactorCount();
+        if (disabledScoreTypeIds.isEmpty()) {
+            if (count <= TOP_FACTOR_LIMIT) {
+                return this;
+            }
+            return toBuilder()
+                .factorIds(Arrays.copyOf(factorIds, TOP_FACTOR_LIMIT))
+                .factorScores(Arrays.copyOf(factorScores, TOP_FACTOR_LIMIT))
+                .build();
+        }
+
+        double sum = scoreSum;
+        int scored = scoreCount;
+        Long[] topIds = new Long[Math.min(count, TOP_FACTOR_LIMIT)];
+        Double[] topScores = new Double[topIds.length];
+        int topCount = 0;
+        for (int i = 0; i < count; i++) {
+            if (disabledScoreTypeIds.contains(factorIds[i].intValue())) {
+                if (factorScores[i] != null) {
+                    sum -= factorScores[i];
+                    scored--;
+                }
+            } else if (topCount < topIds.length) {
+                topIds[topCount] = factorIds[i];
+                topScores[topCount] = factorScores[i];
+                topCount++;
+            }
+        }
+
+        return toBuilder()
+            .totalScore(scored > 0 ? sum / scored : 0.0)
+            .factorIds(Arrays.copyOf(topIds, topCount))
+            .factorScores(Arrays.copyOf(topScores, topCount))
+            .scoreSum(sum)
+            .scoreCount(scored)
+            .build();
+    }
+}
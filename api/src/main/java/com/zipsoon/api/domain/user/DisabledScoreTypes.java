@@ -0,0 +1,104 @@
+package com.zipsoon.api.domain.user;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.StringJoiner;
+
+/**
+ * 사용자가 비활성화한 점수 유형 ID 집합
+ * 점수 유형 ID는 작은 정수이므로 비트셋으로 저장하는 불변 객체입니다.
+ */
+public final class DisabledScoreTypes {
+    private static final DisabledScoreTypes EMPTY = new DisabledScoreTypes(new long[0], 0);
+
+    private final long[] words;
+    private final int size;
+
+    private DisabledScoreTypes(long[] words, int size) {
+        this.words = words;
+        this.size = size;
+    }
+
+    public static DisabledScoreTypes empty() {
+        return EMPTY;
+    }
+
+    /**
+     * 점수 유형 ID 목록으로 집합을 생성합니다.
+     *
+     * @param scoreTypeIds 비활성화된 점수 유형 ID 목록
+     * @return 비활성화 점수 유형 집합
+     * @throws IllegalArgumentException 음수 ID가 포함된 경우
+     */
+    public static DisabledScoreTypes of(Collection<Integer> scoreTypeIds) {
+        if (scoreTypeIds == null || scoreTypeIds.isEmpty()) {
+            return EMPTY;
+        }
+
+        int maxId = scoreTypeIds.stream().mapToInt(Integer::intValue).max().orElse(0);
+        if (scoreTypeIds.stream().anyMatch(id -> id < 0)) {
+            throw new IllegalArgumentException("점수 유형 ID는 음수일 수 없습니다: " + scoreTypeIds);
+        }
+
+        long[] words = new long[(maxId >> 6) + 1];
+        for (int id : scoreTypeIds) {
+            words[id >> 6] |= 1L << id;
+        }
+
+        int size = 0;
+        for (long word : words) {
+            size += Long.bitCount(word);
+        }
+        return new DisabledScoreTypes(words, size);
+    }
+
+    public boolean contains(int scoreTypeId) {
+        int index = scoreTypeId >> 6;
+        return scoreTypeId >= 0 && index < words.length && (words[index] & (1L << scoreTypeId)) != 0;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * SQL 배열 파라미터용 ID 배열로 변환합니다.
+     */
+    public Integer[] toArray() {
+        Integer[] ids = new Integer[size];
+        int position = 0;
+        for (int index = 0; index < words.length; index++) {
+            long word = words[index];
+            while (word != 0) {
+                ids[position++] = (index << 6) + Long.numberOfTrailingZeros(word);
+                word &= word - 1;
+            }
+        }
+        return ids;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof DisabledScoreTypes other)) return false;
+        return Arrays.equals(toArray(), other.toArray());
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(toArray());
+    }
+
+    @Override
+    public String toString() {
+        var joiner = new StringJoiner(", ", "[", "]");
+        for (Integer id : toArray()) {
+            joiner.add(String.valueOf(id));
+        }
+        return joiner.toString();
+    }
+}
@@ -0,0 +1,75 @@
+package com.zipsoon.api.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.zipsoon.api.domain.user.DisabledScoreTypes;
+import com.zipsoon.api.infrastructure.repository.user.UserDisabledScoreTypeRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+
+/**
+ * 사용자별 비활성화 점수 유형 캐시
+ * 크기와 TTL이 제한된 Caffeine 캐시에 사용자별 비활성화 집합(비트셋)을 보관합니다.
+ * 적중/미스 통계는 {@code cache.gets} 등 Micrometer 지표로 노출됩니다.
+ */
+@Slf4j
+@Component
+public class DisabledScoreTypeCache {
+    private static final String CACHE_NAME = "disabledScoreTypes";
+
+    private final UserDisabledScoreTypeRepository userDisabledScoreTypeRepository;
+    private final Cache<Long, DisabledScoreTypes> cache;
+
+    public DisabledScoreTypeCache(
+        UserDisabledScoreTypeRepository userDisabledScoreTypeRepository,
+        MeterRegistry meterRegistry,
+        @Value("${score.disabled-type-cache.maximum-size:10000}") long maximumSize,
+        @Value("${score.disabled-type-cache.expire-after-write:10m}") Duration expireAfterWrite
+    ) {
+        this.userDisabledScoreTypeRepository = userDisabledScoreTypeRepository;
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(expireAfterWrite)
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * 사용자의 비활성화 점수 유형을 조회합니다. 캐시에 없으면 데이터베이스에서 적재합니다.
+     *
+     * @param userId 사용자 ID
+     * @return 비활성화 점수 유형 집합
+     */
+    public DisabledScoreTypes get(Long userId) {
+        return cache.get(userId, id ->
+            DisabledScoreTypes.of(userDisabledScoreTypeRepository.findDisabledScoreTypeIdsByUserId(id)));
+    }
+
+    /**
+     * 사용자의 캐시 항목을 무효화합니다.
+     * 트랜잭션 안에서 호출되면 커밋 이전 값이 다시 적재되지 않도록 트랜잭션 완료 후 한 번 더 무효화합니다.
+     *
+     * @param userId 사용자 ID
+     */
+    public void invalidate(Long userId) {
+        cache.invalidate(userId);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    cache.invalidate(userId);
+                }
+            });
+        }
+        log.debug("[CACHE:EVICT] 비활성화 점수 유형 캐시 무효화: 사용자={}", userId);
+    }
+}
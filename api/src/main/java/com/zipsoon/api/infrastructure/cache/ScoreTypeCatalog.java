@@ -0,0 +1,104 @@
+package com.zipsoon.api.infrastructure.cache;
+
+import com.zipsoon.api.infrastructure.generation.DataGenerationChangedEvent;
+import com.zipsoon.api.infrastructure.repository.estate.ApiScoreRepository;
+import com.zipsoon.common.domain.score.ScoreType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 점수 유형 카탈로그
+ * score_type 테이블 전체를 ID로 인덱싱된 배열에 보관하는 불변 메모리 캐시입니다.
+ * 최초 사용 시 적재하고, 새 데이터 세대가 감지되면 다시 적재합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ScoreTypeCatalog {
+    private final ApiScoreRepository apiScoreRepository;
+
+    private volatile Snapshot snapshot;
+
+    /**
+     * 적재 완료된 카탈로그 (생성 후 변경되지 않음)
+     */
+    private record Snapshot(ScoreType[] byId, List<ScoreType> activeTypes) {
+        static Snapshot of(List<ScoreType> scoreTypes) {
+            int maxId = scoreTypes.stream().mapToInt(type -> type.getId().intValue()).max().orElse(0);
+            var byId = new ScoreType[maxId + 1];
+            for (ScoreType scoreType : scoreTypes) {
+                byId[scoreType.getId().intValue()] = scoreType;
+            }
+            var activeTypes = scoreTypes.stream().filter(ScoreType::isActive).toList();
+            return new Snapshot(byId, activeTypes);
+        }
+    }
+
+    /**
+     * ID로 점수 유형을 조회합니다.
+     *
+     * @param scoreTypeId 점수 유형 ID
+     * @return 점수 유형 (없으면 null)
+     */
+    public ScoreType get(Long scoreTypeId) {
+        var byId = snapshot().byId();
+        if (scoreTypeId == null || scoreTypeId < 0 || scoreTypeId >= byId.length) {
+            return null;
+        }
+        return byId[scoreTypeId.intValue()];
+    }
+
+    /**
+     * ID로 점수 유형 이름을 조회합니다.
+     *
+     * @param scoreTypeId 점수 유형 ID
+     * @return 점수 유형 이름 (없으면 null)
+     */
+    public String getName(Long scoreTypeId) {
+        var scoreType = get(scoreTypeId);
+        return scoreType != null ? scoreType.getName() : null;
+    }
+
+    /**
+     * 활성화된 점수 유형 목록을 조회합니다.
+     *
+     * @return 활성 점수 유형 목록 (ID 오름차순)
+     */
+    public List<ScoreType> getActiveTypes() {
+        return snapshot().activeTypes();
+    }
+
+    /**
+     * 새 데이터 세대가 감지되면 카탈로그를 다시 적재합니다.
+     */
+    @EventListener
+    public void onDataGenerationChanged(DataGenerationChangedEvent event) {
+        refresh();
+    }
+
+    /**
+     * 카탈로그를 다시 적재합니다.
+     */
+    public synchronized void refresh() {
+        var scoreTypes = apiScoreRepository.findAllScoreTypes();
+        snapshot = Snapshot.of(scoreTypes);
+        log.info("[CACHE:REFRESH] 점수 유형 카탈로그 적재 완료: {}개", scoreTypes.size());
+    }
+
+    private Snapshot snapshot() {
+        var current = snapshot;
+        if (current == null) {
+            synchronized (this) {
+                if (snapshot == null) {
+                    refresh();
+                }
+                current = snapshot;
+            }
+        }
+        return current;
+    }
+}
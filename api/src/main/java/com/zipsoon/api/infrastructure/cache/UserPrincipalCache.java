@@ -0,0 +1,71 @@
+package com.zipsoon.api.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.zipsoon.api.application.auth.CustomUserDetailsService;
+import com.zipsoon.api.domain.auth.UserPrincipal;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+
+/**
+ * 인증 주체 캐시
+ * 토큰을 인증할 때마다 사용자 존재 여부를 확인하는 데 사용하며, 짧은 TTL 동안 사용자 조회 결과를 보관합니다.
+ * 탈퇴 시 처리한 인스턴스의 항목은 즉시 무효화되고, 다른 인스턴스는 TTL이 지나면 반영됩니다.
+ */
+@Component
+public class UserPrincipalCache {
+    private static final String CACHE_NAME = "userPrincipals";
+
+    private final CustomUserDetailsService customUserDetailsService;
+    private final Cache<Long, UserPrincipal> cache;
+
+    public UserPrincipalCache(
+        CustomUserDetailsService customUserDetailsService,
+        MeterRegistry meterRegistry,
+        @Value("${jwt.principal-cache.maximum-size:10000}") long maximumSize,
+        @Value("${jwt.principal-cache.expire-after-write:1m}") Duration expireAfterWrite
+    ) {
+        this.customUserDetailsService = customUserDetailsService;
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(expireAfterWrite)
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * 사용자의 인증 주체를 조회합니다. 캐시에 없으면 데이터베이스에서 적재합니다.
+     *
+     * @param userId 사용자 ID
+     * @return 인증 주체
+     */
+    public UserPrincipal get(Long userId) {
+        return cache.get(userId, customUserDetailsService::loadUserById);
+    }
+
+    /**
+     * 사용자의 캐시 항목을 무효화합니다.
+     * 트랜잭션 안에서 호출되면 커밋 이전 값이 다시 적재되지 않도록 트랜잭션 완료 후 한 번 더 무효화합니다.
+     *
+     * @param userId 사용자 ID
+     */
+    public void invalidate(Long userId) {
+        cache.invalidate(userId);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    cache.invalidate(userId);
+                }
+            });
+        }
+    }
+}
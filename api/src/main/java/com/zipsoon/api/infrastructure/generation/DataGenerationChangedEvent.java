@@ -0,0 +1,12 @@
+package com.zipsoon.api.infrastructure.generation;
+
+/**
+ * 배치 파이프라인이 새 데이터 세대를 기록했음을 알리는 이벤트
+ *
+ * @param previousGeneration 이전 세대 번호 (최초 감지 시 -1)
+ * @param generation 새 세대 번호
+ */
+public record DataGenerationChangedEvent(
+    long previousGeneration,
+    long generation
+) {}
@@ -0,0 +1,47 @@
+package com.zipsoon.api.infrastructure.generation;
+
+import com.zipsoon.api.infrastructure.repository.generation.DataGenerationRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 데이터 세대 감시자
+ * 배치가 기록한 세대 번호를 주기적으로 확인하고, 변경되면 {@link DataGenerationChangedEvent}를 발행합니다.
+ * 매물 데이터는 배치 실행 사이에는 변하지 않으므로, 메모리 캐시는 이 이벤트를 기준으로 갱신합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DataGenerationWatcher {
+    private final DataGenerationRepository dataGenerationRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private volatile long currentGeneration = -1;
+
+    /**
+     * 세대 번호를 확인하고 변경 시 이벤트를 발행합니다.
+     * 리스너 처리에 실패하면 세대 번호를 갱신하지 않아 다음 주기에 다시 시도합니다.
+     */
+    @Scheduled(fixedDelayString = "${data-generation.poll-interval-ms:60000}")
+    public synchronized void checkGeneration() {
+        try {
+            long latest = dataGenerationRepository.findLatestGeneration();
+            if (latest == currentGeneration) {
+                return;
+            }
+
+            log.info("[GEN:CHANGED] 데이터 세대 변경 감지: {} -> {}", currentGeneration, latest);
+            eventPublisher.publishEvent(new DataGenerationChangedEvent(currentGeneration, latest));
+            currentGeneration = latest;
+        } catch (Exception e) {
+            log.error("[GEN:ERR] 데이터 세대 확인 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    public long getCurrentGeneration() {
+        return currentGeneration;
+    }
+}
@@ -0,0 +1,94 @@
+package com.zipsoon.api.infrastructure.index;
+
+import com.zipsoon.api.domain.estate.EstateSummary;
+import com.zipsoon.api.infrastructure.generation.DataGenerationChangedEvent;
+import com.zipsoon.api.infrastructure.repository.estate.ApiEstateRepository;
+import com.zipsoon.api.interfaces.api.estate.dto.ViewportRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.index.strtree.STRtree;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 매물 메모리 공간 인덱스
+ * 매물 테이블은 배치 실행 사이에는 읽기 전용이므로, 매물 좌표와 요약 정보를 JTS {@link STRtree}에 적재해
+ * 지도 뷰포트 조회를 데이터베이스 없이 처리합니다. 새 데이터 세대가 감지되면 전체를 다시 적재한 뒤
+ * 참조를 교체하므로, 조회 중인 요청은 이전 인덱스를 끝까지 사용합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EstateSpatialIndex {
+    private final ApiEstateRepository apiEstateRepository;
+
+    @Value("${estate.spatial-index.enabled:true}")
+    private boolean enabled;
+
+    private volatile Snapshot snapshot;
+
+    /**
+     * 적재 완료된 인덱스 스냅샷 (생성 후 변경되지 않음)
+     */
+    private record Snapshot(long generation, STRtree tree) {}
+
+    /**
+     * 인덱스 사용 가능 여부
+     */
+    public boolean isReady() {
+        return enabled && snapshot != null;
+    }
+
+    /**
+     * 뷰포트 내 매물 요약을 조회합니다.
+     *
+     * @param viewport 뷰포트
+     * @param limit 최대 조회 개수
+     * @return 매물 요약 목록 (전체 점수 요소 포함)
+     * @throws IllegalStateException 인덱스가 적재되지 않은 경우
+     */
+    @SuppressWarnings("unchecked")
+    public List<EstateSummary> query(ViewportRequest viewport, int limit) {
+        var current = snapshot;
+        if (current == null) {
+            throw new IllegalStateException("매물 공간 인덱스가 적재되지 않았습니다.");
+        }
+
+        var envelope = new Envelope(viewport.swLng(), viewport.neLng(), viewport.swLat(), viewport.neLat());
+        List<EstateSummary> results = current.tree().query(envelope);
+        return results.size() > limit ? results.subList(0, limit) : results;
+    }
+
+    /**
+     * 새 데이터 세대가 감지되면 인덱스를 다시 적재합니다.
+     */
+    @EventListener
+    public void onDataGenerationChanged(DataGenerationChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        rebuild(event.generation());
+    }
+
+    private void rebuild(long generation) {
+        long startTime = System.currentTimeMillis();
+
+        var summaries = apiEstateRepository.findAllSummaries();
+        var tree = new STRtree();
+        for (EstateSummary summary : summaries) {
+            tree.insert(new Envelope(summary.getLongitude(), summary.getLongitude(),
+                summary.getLatitude(), summary.getLatitude()), summary);
+        }
+        // 조회 스레드에서 지연 빌드되지 않도록 교체 전에 빌드
+        tree.build();
+
+        snapshot = new Snapshot(generation, tree);
+
+        log.info("[INDEX:REBUILD] 매물 공간 인덱스 적재 완료: 세대={}, 매물={}개, 소요={}ms",
+            generation, summaries.size(), System.currentTimeMillis() - startTime);
+    }
+}
@@ -15,7 +15,7 @@ public class AuthenticationProvider {
     public Authentication authenticate(HttpServletRequest request) {
         String token = jwtProvider.extractToken(request);
 
-        if (token != null && jwtProvider.validateToken(token)) {
+        if (token != null) {
             return jwtProvider.getAuthentication(token);
         }
 
@@ -1,16 +1,18 @@
 package com.zipsoon.api.infrastructure.jwt;
 
+import com.zipsoon.api.domain.auth.Role;
 import com.zipsoon.api.domain.auth.UserPrincipal;
+import com.zipsoon.api.infrastructure.cache.UserPrincipalCache;
 import com.zipsoon.api.infrastructure.exception.custom.JwtAuthenticationException;
+import com.zipsoon.api.infrastructure.exception.custom.ServiceException;
 import com.zipsoon.api.infrastructure.exception.model.ErrorCode;
-import com.zipsoon.api.application.auth.CustomUserDetailsService;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
 import jakarta.servlet.http.HttpServletRequest;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 
@@ -18,18 +20,33 @@ import java.security.Key;
 import java.util.Base64;
 import java.util.Date;
 
+/**
+ * JWT 발급 및 검증
+ * 서명 키와 파서는 기동 시 한 번만 생성하며, 요청당 토큰 검증은 한 번만 수행합니다.
+ * 인증 주체는 토큰 클레임(사용자 ID, 역할, 이메일)으로 구성하되, 탈퇴한 사용자의 토큰을 거부하도록
+ * 모든 토큰에 대해 {@link UserPrincipalCache}로 사용자 존재 여부를 확인합니다. (캐시 TTL 동안은 데이터베이스 조회 없음)
+ * 역할 변경은 기존 토큰이 만료된 뒤부터 반영됩니다.
+ */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class JwtProvider {
 
-    private final JwtProperties jwtProperties;
-    private final CustomUserDetailsService customUserDetailsService;
     private static final String BEARER_PREFIX = "Bearer ";
+    private static final String ROLE_CLAIM = "role";
+    private static final String EMAIL_CLAIM = "email";
+
+    private final JwtProperties jwtProperties;
+    private final UserPrincipalCache userPrincipalCache;
+    private final Key signingKey;
+    private final JwtParser jwtParser;
 
-    private Key getSigningKey() {
-        byte[] keyBytes = Base64.getDecoder().decode(jwtProperties.getSecretKey());
-        return Keys.hmacShaKeyFor(keyBytes);
+    public JwtProvider(JwtProperties jwtProperties, UserPrincipalCache userPrincipalCache) {
+        this.jwtProperties = jwtProperties;
+        this.userPrincipalCache = userPrincipalCache;
+        this.signingKey = Keys.hmacShaKeyFor(Base64.getDecoder().decode(jwtProperties.getSecretKey()));
+        this.jwtParser = Jwts.parserBuilder()
+            .setSigningKey(signingKey)
+            .build();
     }
 
     public String extractToken(HttpServletRequest request) {
@@ -40,13 +57,16 @@ public class JwtProvider {
         return null;
     }
 
-    public boolean validateToken(String token) {
+    /**
+     * 토큰 서명과 만료를 검증하고 클레임을 반환합니다.
+     *
+     * @param token JWT
+     * @return 검증된 클레임
+     * @throws JwtAuthenticationException 유효하지 않은 토큰인 경우
+     */
+    public Claims parseClaims(String token) {
         try {
-            Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token);
-            return true;
+            return jwtParser.parseClaimsJws(token).getBody();
         } catch (SecurityException e) {
             throw new JwtAuthenticationException(ErrorCode.INVALID_SIGNATURE);
         } catch (MalformedJwtException e) {
@@ -60,18 +80,56 @@ public class JwtProvider {
         }
     }
 
+    /**
+     * 토큰을 한 번 검증하고 인증 정보를 생성합니다.
+     *
+     * @param token JWT
+     * @return 인증 정보
+     * @throws JwtAuthenticationException 유효하지 않은 토큰인 경우
+     */
     public Authentication getAuthentication(String token) {
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
-
-        Long userId = Long.parseLong(claims.getSubject());
-        UserPrincipal userPrincipal = customUserDetailsService.loadUserById(userId);
+        return getAuthentication(parseClaims(token));
+    }
+
+    /**
+     * 검증된 클레임으로 인증 정보를 생성합니다.
+     * 사용자가 없으면(탈퇴) 거부하며, 역할 클레임이 없는 이전 형식의 토큰은 조회한 사용자 정보를 그대로 사용합니다.
+     *
+     * @param claims 검증된 클레임
+     * @return 인증 정보
+     * @throws JwtAuthenticationException 클레임이 잘못되었거나 사용자가 없는 경우
+     */
+    public Authentication getAuthentication(Claims claims) {
+        UserPrincipal userPrincipal = toUserPrincipal(claims);
         return new UsernamePasswordAuthenticationToken(userPrincipal, "", userPrincipal.getAuthorities());
     }
 
+    private UserPrincipal toUserPrincipal(Claims claims) {
+        try {
+            Long userId = Long.parseLong(claims.getSubject());
+            UserPrincipal storedPrincipal = findUser(userId);
+            String role = claims.get(ROLE_CLAIM, String.class);
+            if (role == null) {
+                return storedPrincipal;
+            }
+            return UserPrincipal.of(userId, claims.get(EMAIL_CLAIM, String.class), Role.valueOf(role));
+        } catch (IllegalArgumentException | RequiredTypeException e) {
+            throw new JwtAuthenticationException(ErrorCode.INVALID_TOKEN);
+        }
+    }
+
+    // 탈퇴 등으로 사용자가 없으면 서명이 유효해도 토큰을 거부
+    private UserPrincipal findUser(Long userId) {
+        try {
+            return userPrincipalCache.get(userId);
+        } catch (ServiceException e) {
+            if (e.getErrorCode() == ErrorCode.USER_NOT_FOUND) {
+                throw new JwtAuthenticationException(ErrorCode.INVALID_TOKEN);
+            }
+            throw e;
+        }
+    }
+
     public String createAccessToken(Authentication authentication) {
         return createToken(authentication, jwtProperties.getAccessTokenValidityInMilliseconds());
     }
@@ -85,11 +143,21 @@ public class JwtProvider {
         Date now = new Date();
         Date validity = new Date(now.getTime() + validityInMilliseconds);
 
-        return Jwts.builder()
+        JwtBuilder builder = Jwts.builder()
             .setSubject(userPrincipal.getName())
             .setIssuedAt(now)
-            .setExpiration(validity)
-            .signWith(getSigningKey(), SignatureAlgorithm.HS512)
+            .setExpiration(validity);
+
+        userPrincipal.getAuthorities().stream()
+            .map(GrantedAuthority::getAuthority)
+            .findFirst()
+            .ifPresent(role -> builder.claim(ROLE_CLAIM, role));
+        if (userPrincipal.getEmail() != null) {
+            builder.claim(EMAIL_CLAIM, userPrincipal.getEmail());
+        }
+
+        return builder
+            .signWith(signingKey, SignatureAlgorithm.HS512)
             .compact();
     }
-}
\ No newline at end of file
+}
@@ -1,20 +1,38 @@
 package com.zipsoon.api.infrastructure.mapper.estate;
 
+import com.zipsoon.api.domain.estate.EstateSummary;
+import com.zipsoon.api.interfaces.api.estate.dto.EstateClusterResponse;
 import com.zipsoon.api.interfaces.api.estate.dto.ViewportRequest;
 import com.zipsoon.common.domain.Estate;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.cursor.Cursor;
 
 import java.util.List;
 import java.util.Optional;
 
 @Mapper
 public interface ApiEstateMapper {
-    List<Estate> selectAllInViewport(
+    List<EstateSummary> selectAllInViewportWithScores(
         @Param("viewport") ViewportRequest viewport,
         @Param("limit") int limit,
         @Param("srid") int srid
     );
 
+    Cursor<EstateSummary> selectCursorInViewportWithScores(
+        @Param("viewport") ViewportRequest viewport,
+        @Param("limit") int limit,
+        @Param("srid") int srid
+    );
+
+    List<EstateSummary> selectAllSummaries();
+
+    List<EstateClusterResponse> selectClustersInViewport(
+        @Param("viewport") ViewportRequest viewport,
+        @Param("cellSize") double cellSize,
+        @Param("srid") int srid,
+        @Param("disabledScoreTypeIds") Integer[] disabledScoreTypeIds
+    );
+
    Optional<Estate> selectById(@Param("id") Long id);
 }
\ No newline at end of file
@@ -1,11 +1,11 @@
 package com.zipsoon.api.infrastructure.mapper.estate;
 
-import com.zipsoon.api.interfaces.api.estate.dto.ScoreResponse;
+import com.zipsoon.api.interfaces.api.estate.dto.EstateScoreResponse;
+import com.zipsoon.common.domain.score.ScoreType;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
 import java.util.List;
-import java.util.Map;
 
 @Mapper
 public interface ApiScoreMapper {
@@ -13,14 +13,22 @@ public interface ApiScoreMapper {
      * 매물 ID로 점수 목록을 조회합니다.
      *
      * @param estateId 매물 ID
-     * @return 점수 목록
+     * @return 점수 목록 (정규화 점수 내림차순 정렬)
      */
-    List<ScoreResponse> selectScoresByEstateId(@Param("estateId") Long estateId);
+    List<EstateScoreResponse> selectScoresByEstateId(@Param("estateId") Long estateId);
+
+    /**
+     * 여러 매물의 점수 목록을 한 번의 쿼리로 조회합니다.
+     *
+     * @param estateIds 매물 ID 배열
+     * @return 매물별 점수 목록 (매물 ID, 정규화 점수 내림차순 정렬)
+     */
+    List<EstateScoreResponse> selectScoresByEstateIds(@Param("estateIds") Long[] estateIds);
     
     /**
-     * 모든 점수 유형을 조회합니다.
+     * 모든 점수 유형을 조회합니다. (비활성 유형 포함)
      *
-     * @return 점수 유형 목록 (Map: ID, 이름, 설명)
+     * @return 점수 유형 목록 (ID 오름차순)
      */
-    List<Map<String, Object>> selectAllScoreTypes();
-}
\ No newline at end of file
+    List<ScoreType> selectAllScoreTypes();
+}
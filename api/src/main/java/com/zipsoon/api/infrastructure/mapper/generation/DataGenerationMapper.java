@@ -0,0 +1,17 @@
+package com.zipsoon.api.infrastructure.mapper.generation;
+
+import org.apache.ibatis.annotations.Mapper;
+
+/**
+ * 데이터 세대 매퍼
+ */
+@Mapper
+public interface DataGenerationMapper {
+
+    /**
+     * 가장 최근에 기록된 데이터 세대 번호를 조회합니다.
+     *
+     * @return 최신 세대 번호 (기록이 없으면 0)
+     */
+    long selectLatestGeneration();
+}
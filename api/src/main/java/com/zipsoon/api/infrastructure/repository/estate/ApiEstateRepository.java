@@ -1,9 +1,13 @@
 package com.zipsoon.api.infrastructure.repository.estate;
 
+import com.zipsoon.api.domain.estate.EstateSummary;
+import com.zipsoon.api.domain.user.DisabledScoreTypes;
+import com.zipsoon.api.interfaces.api.estate.dto.EstateClusterResponse;
 import com.zipsoon.api.interfaces.api.estate.dto.ViewportRequest;
 import com.zipsoon.api.infrastructure.mapper.estate.ApiEstateMapper;
 import com.zipsoon.common.domain.Estate;
 import lombok.RequiredArgsConstructor;
+import org.apache.ibatis.cursor.Cursor;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -15,8 +19,48 @@ public class ApiEstateRepository {
     private final ApiEstateMapper mapper;
     private static final int SRID = 4326; // WGS84 좌표계 SRID 값
 
-    public List<Estate> findAllInViewport(ViewportRequest viewport, int limit) {
-        return mapper.selectAllInViewport(viewport, limit, SRID);
+    /**
+     * 뷰포트 내 매물을 미리 계산된 점수 요약과 함께 단일 쿼리로 조회합니다.
+     *
+     * @param viewport 뷰포트
+     * @param limit 최대 조회 개수
+     * @return 매물 요약 목록 (전체 점수 요소, 점수 내림차순)
+     */
+    public List<EstateSummary> findAllInViewportWithScores(ViewportRequest viewport, int limit) {
+        return mapper.selectAllInViewportWithScores(viewport, limit, SRID);
+    }
+
+    /**
+     * 뷰포트 내 매물을 점수 요약과 함께 커서로 조회합니다.
+     * 커서는 트랜잭션 안에서만 읽을 수 있으며, 행은 fetchSize 단위로 데이터베이스에서 가져옵니다.
+     *
+     * @param viewport 뷰포트
+     * @param limit 최대 조회 개수
+     * @return 매물 요약 커서 (전체 점수 요소, 점수 내림차순)
+     */
+    public Cursor<EstateSummary> openCursorInViewportWithScores(ViewportRequest viewport, int limit) {
+        return mapper.selectCursorInViewportWithScores(viewport, limit, SRID);
+    }
+
+    /**
+     * 전체 매물을 모든 점수 요소와 함께 조회합니다. (메모리 공간 인덱스 적재용)
+     *
+     * @return 매물 요약 목록 (점수 요소는 점수 내림차순)
+     */
+    public List<EstateSummary> findAllSummaries() {
+        return mapper.selectAllSummaries();
+    }
+
+    /**
+     * 뷰포트 내 매물을 격자 단위 클러스터로 집계합니다.
+     *
+     * @param viewport 뷰포트
+     * @param cellSize 격자 한 변의 크기 (도 단위)
+     * @param disabledScoreTypeIds 평균 점수에서 제외할 점수 유형 ID
+     * @return 클러스터 목록
+     */
+    public List<EstateClusterResponse> findClustersInViewport(ViewportRequest viewport, double cellSize, DisabledScoreTypes disabledScoreTypeIds) {
+        return mapper.selectClustersInViewport(viewport, cellSize, SRID, disabledScoreTypeIds.toArray());
     }
 
     public Optional<Estate> findById(Long id) {
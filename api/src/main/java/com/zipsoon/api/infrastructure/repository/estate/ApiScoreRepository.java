@@ -1,12 +1,12 @@
 package com.zipsoon.api.infrastructure.repository.estate;
 
-import com.zipsoon.api.interfaces.api.estate.dto.ScoreResponse;
+import com.zipsoon.api.interfaces.api.estate.dto.EstateScoreResponse;
 import com.zipsoon.api.infrastructure.mapper.estate.ApiScoreMapper;
+import com.zipsoon.common.domain.score.ScoreType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
-import java.util.Map;
 
 @Repository
 @RequiredArgsConstructor
@@ -19,16 +19,29 @@ public class ApiScoreRepository {
      * @param estateId 매물 ID
      * @return 점수 목록
      */
-    public List<ScoreResponse> findScoresByEstateId(Long estateId) {
+    public List<EstateScoreResponse> findScoresByEstateId(Long estateId) {
         return mapper.selectScoresByEstateId(estateId);
     }
+
+    /**
+     * 여러 매물의 점수 목록을 한 번에 조회합니다.
+     *
+     * @param estateIds 매물 ID 목록
+     * @return 매물별 점수 목록
+     */
+    public List<EstateScoreResponse> findScoresByEstateIds(List<Long> estateIds) {
+        if (estateIds.isEmpty()) {
+            return List.of();
+        }
+        return mapper.selectScoresByEstateIds(estateIds.toArray(Long[]::new));
+    }
     
     /**
-     * 모든 점수 유형을 조회합니다.
+     * 모든 점수 유형을 조회합니다. (비활성 유형 포함)
      *
      * @return 점수 유형 목록
      */
-    public List<Map<String, Object>> findAllScoreTypes() {
+    public List<ScoreType> findAllScoreTypes() {
         return mapper.selectAllScoreTypes();
     }
 }
\ No newline at end of file
@@ -0,0 +1,19 @@
+package com.zipsoon.api.infrastructure.repository.generation;
+
+import com.zipsoon.api.infrastructure.mapper.generation.DataGenerationMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 데이터 세대 저장소
+ * 배치 파이프라인이 기록한 세대 번호로 데이터 갱신 여부를 판단합니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class DataGenerationRepository {
+    private final DataGenerationMapper mapper;
+
+    public long findLatestGeneration() {
+        return mapper.selectLatestGeneration();
+    }
+}
@@ -27,7 +27,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         try {
             String token = jwtProvider.extractToken(request);
             if (token != null) {
-                jwtProvider.validateToken(token);
+                // 서명 검증과 인증 정보 생성을 한 번의 파싱으로 처리
                 Authentication auth = jwtProvider.getAuthentication(token);
                 SecurityContextHolder.getContext().setAuthentication(auth);
             }
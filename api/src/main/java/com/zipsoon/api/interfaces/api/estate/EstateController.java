@@ -1,8 +1,13 @@
 package com.zipsoon.api.interfaces.api.estate;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.zipsoon.api.application.estate.EstateService;
 import com.zipsoon.api.application.estate.ScoreService;
 import com.zipsoon.api.domain.auth.UserPrincipal;
+import com.zipsoon.api.interfaces.api.estate.dto.EstateClusterResponse;
+import com.zipsoon.api.interfaces.api.estate.dto.EstateColumnsResponse;
 import com.zipsoon.api.interfaces.api.estate.dto.EstateDetailResponse;
 import com.zipsoon.api.interfaces.api.estate.dto.EstateResponse;
 import com.zipsoon.api.interfaces.api.estate.dto.ScoreTypeResponse;
@@ -18,10 +23,14 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
 
 @RestController
@@ -31,6 +40,7 @@ import java.util.List;
 public class EstateController {
     private final EstateService estateService;
     private final ScoreService scoreService;
+    private final ObjectMapper objectMapper;
 
     @Operation(
         summary = "지도 뷰포트 내 매물 목록 조회",
@@ -54,6 +64,94 @@ public class EstateController {
         );
     }
 
+    @Operation(
+        summary = "지도 뷰포트 내 매물 목록 조회 (열 형식)",
+        description = "매물 목록 조회와 같은 결과를 필드별 병렬 배열과 공유 사전으로 반환합니다. "
+            + "Accept 헤더가 " + EstateColumnsResponse.MEDIA_TYPE + "인 요청에만 적용됩니다.",
+        security = @SecurityRequirement(name = "JWT_ACCESS_TOKEN")
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "매물 목록 조회 성공",
+                content = @Content(mediaType = EstateColumnsResponse.MEDIA_TYPE,
+                        schema = @Schema(implementation = EstateColumnsResponse.class))),
+        @ApiResponse(responseCode = "400", description = "잘못된 요청 파라미터")
+    })
+    @GetMapping(value = "/map", produces = EstateColumnsResponse.MEDIA_TYPE)
+    public ResponseEntity<EstateColumnsResponse> getEstateColumnsInViewport(
+        @Parameter(description = "지도 뷰포트 좌표 정보") @Valid ViewportRequest request,
+        @Parameter(description = "현재 로그인한 사용자 정보 (선택적)") @AuthenticationPrincipal UserPrincipal userPrincipal
+    ) {
+        Long userId = userPrincipal != null ? userPrincipal.getId() : null;
+
+        return ResponseEntity.ok(
+            estateService.findEstateColumnsInViewport(request, userId)
+        );
+    }
+
+    @Operation(
+        summary = "지도 뷰포트 내 매물 목록 스트리밍 조회",
+        description = "매물 목록 조회와 같은 결과를 JSON 배열로 스트리밍합니다. 데이터베이스 커서에서 읽은 매물을 바로 응답에 기록하므로 "
+            + "첫 바이트가 빨리 도착하고, 서버 메모리 사용량이 결과 크기와 무관합니다.",
+        security = @SecurityRequirement(name = "JWT_ACCESS_TOKEN")
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "매물 목록 조회 성공",
+                content = @Content(schema = @Schema(implementation = EstateResponse.class))),
+        @ApiResponse(responseCode = "400", description = "잘못된 요청 파라미터")
+    })
+    @GetMapping(value = "/map/stream", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamEstatesInViewport(
+        @Parameter(description = "지도 뷰포트 좌표 정보") @Valid ViewportRequest request,
+        @Parameter(description = "현재 로그인한 사용자 정보 (선택적)") @AuthenticationPrincipal UserPrincipal userPrincipal
+    ) {
+        Long userId = userPrincipal != null ? userPrincipal.getId() : null;
+
+        // 응답 본문을 쓰기 시작하면 오류 응답으로 바꿀 수 없으므로 먼저 검증
+        estateService.validateViewport(request);
+
+        StreamingResponseBody body = outputStream -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)
+                    .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)) {
+                ObjectWriter writer = objectMapper.writerFor(EstateResponse.class);
+                generator.writeStartArray();
+                estateService.streamEstatesInViewport(request, userId, estate -> {
+                    try {
+                        writer.writeValue(generator, estate);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+                generator.writeEndArray();
+            }
+        };
+
+        return ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_JSON)
+            .body(body);
+    }
+
+    @Operation(
+        summary = "지도 뷰포트 내 매물 클러스터 조회",
+        description = "지정된 지도 영역의 매물을 격자 단위로 묶어 개수, 중심 좌표, 평균 점수, 가격 범위를 조회합니다. 줌 레벨 14 미만에서 사용합니다.",
+        security = @SecurityRequirement(name = "JWT_ACCESS_TOKEN")
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "클러스터 목록 조회 성공",
+                content = @Content(schema = @Schema(implementation = EstateClusterResponse.class))),
+        @ApiResponse(responseCode = "400", description = "잘못된 요청 파라미터")
+    })
+    @GetMapping("/map/clusters")
+    public ResponseEntity<List<EstateClusterResponse>> getEstateClustersInViewport(
+        @Parameter(description = "지도 뷰포트 좌표 정보") @Valid ViewportRequest request,
+        @Parameter(description = "현재 로그인한 사용자 정보 (선택적)") @AuthenticationPrincipal UserPrincipal userPrincipal
+    ) {
+        Long userId = userPrincipal != null ? userPrincipal.getId() : null;
+
+        return ResponseEntity.ok(
+            estateService.findEstateClustersInViewport(request, userId)
+        );
+    }
+
     @Operation(
         summary = "매물 상세 정보 조회",
         description = "특정 매물의 상세 정보를 조회합니다. 인증된 사용자의 경우 개인화된 점수 필터링을 적용합니다.",
@@ -0,0 +1,27 @@
+package com.zipsoon.api.interfaces.api.estate.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.math.BigDecimal;
+
+@Schema(description = "지도 격자 클러스터 응답")
+public record EstateClusterResponse(
+    @Schema(description = "클러스터 내 매물 수", example = "128")
+    Long count,
+
+    @Schema(description = "클러스터 중심 위도", example = "37.5000")
+    @JsonProperty("lat") Double latitude,
+
+    @Schema(description = "클러스터 중심 경도", example = "127.0000")
+    @JsonProperty("lng") Double longitude,
+
+    @Schema(description = "클러스터 내 매물 평균 점수", example = "6.8")
+    Double averageScore,
+
+    @Schema(description = "최저 매매가/보증금", example = "100000000")
+    BigDecimal minPrice,
+
+    @Schema(description = "최고 매매가/보증금", example = "900000000")
+    BigDecimal maxPrice
+) {}
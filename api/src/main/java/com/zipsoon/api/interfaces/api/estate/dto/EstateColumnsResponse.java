@@ -0,0 +1,163 @@
+package com.zipsoon.api.interfaces.api.estate.dto;
+
+import com.zipsoon.api.domain.estate.EstateSummary;
+import com.zipsoon.common.domain.EstateType;
+import com.zipsoon.common.domain.TradeType;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 지도 매물 목록의 열(column) 형식 응답
+ * 매물마다 객체를 만드는 대신 필드별 병렬 배열로 전달하고, 반복되는 값(매물 유형, 거래 유형, 점수 유형 이름)은
+ * 사전으로 한 번만 전달합니다. {@code Accept: application/vnd.zipsoon.estate-columns+json} 요청에만 사용합니다.
+ */
+@Schema(description = "매물 목록 열 형식 응답 (i번째 매물 = 각 배열의 i번째 값)")
+public record EstateColumnsResponse(
+    @Schema(description = "매물 수", example = "2")
+    int count,
+
+    @Schema(description = "좌표 배율 (lat/lng 값을 이 값으로 나누면 도 단위)", example = "1000000")
+    int coordinateScale,
+
+    @Schema(description = "매물 ID")
+    long[] ids,
+
+    @Schema(description = "매물명")
+    String[] names,
+
+    @Schema(description = "매물 유형 사전")
+    List<EstateType> typeDictionary,
+
+    @Schema(description = "매물 유형 (typeDictionary 인덱스)")
+    int[] types,
+
+    @Schema(description = "거래 유형 사전")
+    List<TradeType> tradeTypeDictionary,
+
+    @Schema(description = "거래 유형 (tradeTypeDictionary 인덱스)")
+    int[] tradeTypes,
+
+    @Schema(description = "매매가/보증금 (원 단위 반올림, 없으면 null)")
+    Long[] prices,
+
+    @Schema(description = "월세 (원 단위 반올림, 없으면 null)")
+    Long[] rentPrices,
+
+    @Schema(description = "면적(m²)")
+    BigDecimal[] areas,
+
+    @Schema(description = "위도 × coordinateScale")
+    int[] lat,
+
+    @Schema(description = "경도 × coordinateScale")
+    int[] lng,
+
+    @Schema(description = "종합 점수")
+    double[] totalScores,
+
+    @Schema(description = "점수 유형 사전 (ID → 이름)")
+    Map<Long, String> factorDictionary,
+
+    @Schema(description = "매물별 상위 요소 시작 위치 (i번째 매물의 요소 = factorOffsets[i] ~ factorOffsets[i+1]-1)")
+    int[] factorOffsets,
+
+    @Schema(description = "상위 요소 점수 유형 ID (factorDictionary 키)")
+    long[] factorIds,
+
+    @Schema(description = "상위 요소 점수")
+    double[] factorScores
+) {
+    public static final String MEDIA_TYPE = "application/vnd.zipsoon.estate-columns+json";
+    public static final int COORDINATE_SCALE = 1_000_000;
+    // 카탈로그에 없는 점수 유형 ID도 사전 키로 남겨 factorIds가 항상 사전을 가리키도록 함
+    public static final String UNKNOWN_FACTOR_NAME = "알 수 없는 점수 유형";
+
+    public static EstateColumnsResponse from(List<EstateSummary> summaries, Function<Long, String> scoreTypeNameResolver) {
+        int count = summaries.size();
+        long[] ids = new long[count];
+        String[] names = new String[count];
+        int[] types = new int[count];
+        int[] tradeTypes = new int[count];
+        Long[] prices = new Long[count];
+        Long[] rentPrices = new Long[count];
+        BigDecimal[] areas = new BigDecimal[count];
+        int[] lat = new int[count];
+        int[] lng = new int[count];
+        double[] totalScores = new double[count];
+        int[] factorOffsets = new int[count + 1];
+
+        var typeIndex = new HashMap<EstateType, Integer>();
+        var typeDictionary = new ArrayList<EstateType>();
+        var tradeTypeIndex = new HashMap<TradeType, Integer>();
+        var tradeTypeDictionary = new ArrayList<TradeType>();
+        var factorDictionary = new LinkedHashMap<Long, String>();
+
+        int factorCount = 0;
+        for (EstateSummary summary : summaries) {
+            factorCount += summary.getFactorCount();
+        }
+        long[] factorIds = new long[factorCount];
+        double[] factorScores = new double[factorCount];
+
+        int position = 0;
+        for (int i = 0; i < count; i++) {
+            EstateSummary summary = summaries.get(i);
+            ids[i] = summary.getId();
+            names[i] = summary.getEstateName();
+            types[i] = indexOf(summary.getEstateType(), typeIndex, typeDictionary);
+            tradeTypes[i] = indexOf(summary.getTradeType(), tradeTypeIndex, tradeTypeDictionary);
+            prices[i] = roundToWon(summary.getPrice());
+            rentPrices[i] = roundToWon(summary.getRentPrice());
+            areas[i] = summary.getAreaMeter();
+            lat[i] = (int) Math.round(summary.getLatitude() * COORDINATE_SCALE);
+            lng[i] = (int) Math.round(summary.getLongitude() * COORDINATE_SCALE);
+            totalScores[i] = summary.getTotalScore() != null ? summary.getTotalScore() : 0.0;
+
+            factorOffsets[i] = position;
+            for (int f = 0; f < summary.getFactorCount(); f++) {
+                Long factorId = summary.getFactorIds()[f];
+                Double factorScore = summary.getFactorScores()[f];
+                factorDictionary.computeIfAbsent(factorId, id -> {
+                    String name = scoreTypeNameResolver.apply(id);
+                    return name != null ? name : UNKNOWN_FACTOR_NAME;
+                });
+                factorIds[position] = factorId;
+                factorScores[position] = factorScore != null ? factorScore : 0.0;
+                position++;
+            }
+        }
+        factorOffsets[count] = position;
+
+        return new EstateColumnsResponse(
+            count, COORDINATE_SCALE, ids, names,
+            typeDictionary, types, tradeTypeDictionary, tradeTypes,
+            prices, rentPrices, areas, lat, lng, totalScores,
+            factorDictionary, factorOffsets, factorIds, factorScores
+        );
+    }
+
+    private static <T> int indexOf(T value, Map<T, Integer> index, List<T> dictionary) {
+        if (value == null) {
+            return -1;
+        }
+        return index.computeIfAbsent(value, key -> {
+            dictionary.add(key);
+            return dictionary.size() - 1;
+        });
+    }
+
+    /**
+     * 금액을 원 단위로 반올림합니다. (long 범위를 넘으면 잘리지 않고 예외 발생)
+     */
+    private static Long roundToWon(BigDecimal amount) {
+        return amount != null ? amount.setScale(0, RoundingMode.HALF_UP).longValueExact() : null;
+    }
+}
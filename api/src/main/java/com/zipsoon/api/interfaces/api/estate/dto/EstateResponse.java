@@ -1,6 +1,7 @@
 package com.zipsoon.api.interfaces.api.estate.dto;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.zipsoon.api.domain.estate.EstateSummary;
 import com.zipsoon.common.domain.Estate;
 import com.zipsoon.common.domain.EstateType;
 import com.zipsoon.common.domain.TradeType;
@@ -9,6 +10,9 @@ import lombok.extern.slf4j.Slf4j;
 import org.locationtech.jts.geom.Point;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
 
 @Schema(description = "매물 기본 정보 응답")
 @Slf4j
@@ -57,4 +61,29 @@ public record EstateResponse(
             scoreSummary
         );
     }
+
+    public static EstateResponse from(EstateSummary summary, Function<Long, String> scoreTypeNameResolver) {
+        List<ScoreSummaryResponse.TopFactorResponse> topFactors = new ArrayList<>(summary.getFactorCount());
+        for (int i = 0; i < summary.getFactorCount(); i++) {
+            topFactors.add(new ScoreSummaryResponse.TopFactorResponse(
+                summary.getFactorIds()[i],
+                scoreTypeNameResolver.apply(summary.getFactorIds()[i]),
+                summary.getFactorScores()[i]
+            ));
+        }
+
+        var totalScore = summary.getTotalScore() != null ? summary.getTotalScore() : 0.0;
+        return new EstateResponse(
+            summary.getId(),
+            summary.getEstateName(),
+            summary.getEstateType(),
+            summary.getTradeType(),
+            summary.getPrice(),
+            summary.getRentPrice(),
+            summary.getAreaMeter(),
+            summary.getLatitude(),
+            summary.getLongitude(),
+            new ScoreSummaryResponse(totalScore, topFactors)
+        );
+    }
 }
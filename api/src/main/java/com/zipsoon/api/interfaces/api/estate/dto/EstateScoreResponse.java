@@ -0,0 +1,11 @@
+package com.zipsoon.api.interfaces.api.estate.dto;
+
+/**
+ * 매물 점수 조회 결과 행 (매물 ID, 점수 유형 ID, 정규화 점수)
+ * 점수 유형 이름과 설명은 메모리 점수 유형 카탈로그에서 채웁니다.
+ */
+public record EstateScoreResponse(
+    Long estateId,
+    Long scoreTypeId,
+    Double normalizedScore
+) {}
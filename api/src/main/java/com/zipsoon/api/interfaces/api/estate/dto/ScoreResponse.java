@@ -1,10 +1,8 @@
 package com.zipsoon.api.interfaces.api.estate.dto;
 
 public record ScoreResponse(
-    Long scoreId,
     Long scoreTypeId,
     String scoreTypeName,
     String description,
-    Double rawScore,
     Double normalizedScore
-) {}
\ No newline at end of file
+) {}
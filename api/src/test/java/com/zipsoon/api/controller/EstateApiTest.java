@@ -5,6 +5,7 @@ import com.zipsoon.api.application.estate.EstateService;
 import com.zipsoon.api.application.estate.ScoreService;
 import com.zipsoon.api.domain.auth.Role;
 import com.zipsoon.api.domain.auth.UserPrincipal;
+import com.zipsoon.api.domain.estate.EstateSummary;
 import com.zipsoon.api.domain.user.User;
 import com.zipsoon.api.infrastructure.exception.custom.ServiceException;
 import com.zipsoon.api.infrastructure.exception.model.ErrorCode;
@@ -26,12 +27,17 @@ import org.springframework.security.authentication.UsernamePasswordAuthenticatio
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.request.RequestPostProcessor;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
 
+import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 import java.util.stream.IntStream;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -178,6 +184,168 @@ class EstateApiTest {
         verify(estateService).findEstatesInViewport(any(), isNull());
     }
 
+    @Nested
+    @DisplayName("Cluster API 테스트")
+    class ClusterTests {
+
+        @Test
+        @DisplayName("뷰포트 클러스터 조회 시 격자별 요약 반환")
+        void shouldReturnClusters_When_RequestingLowZoomViewport() throws Exception {
+            // given
+            ViewportRequest request = new ViewportRequest(126.0, 37.0, 127.0, 38.0, 11);
+            List<EstateClusterResponse> clusters = List.of(
+                new EstateClusterResponse(120L, 37.51, 127.02, 6.5, new BigDecimal("100000000"), new BigDecimal("900000000")),
+                new EstateClusterResponse(3L, 37.60, 126.95, 0.0, null, null)
+            );
+            when(estateService.findEstateClustersInViewport(any(), isNull())).thenReturn(clusters);
+
+            // when & then
+            mockMvc.perform(get("/api/v1/estates/map/clusters")
+                    .param("swLng", String.valueOf(request.swLng()))
+                    .param("swLat", String.valueOf(request.swLat()))
+                    .param("neLng", String.valueOf(request.neLng()))
+                    .param("neLat", String.valueOf(request.neLat()))
+                    .param("zoom", String.valueOf(request.zoom())))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].count").value(120))
+                .andExpect(jsonPath("$[0].lat").value(37.51))
+                .andExpect(jsonPath("$[0].lng").value(127.02))
+                .andExpect(jsonPath("$[0].averageScore").value(6.5));
+
+            // verify
+            verify(estateService).findEstateClustersInViewport(any(), isNull());
+        }
+    }
+
+    @Nested
+    @DisplayName("열 형식 매물 목록 API 테스트")
+    class ColumnsTests {
+
+        @Test
+        @DisplayName("열 형식 Accept 헤더로 조회 시 병렬 배열과 공유 사전 반환")
+        void shouldReturnColumns_When_AcceptingColumnsMediaType() throws Exception {
+            // given
+            ViewportRequest request = createViewportRequest();
+            List<EstateSummary> summaries = List.of(
+                EstateSummary.builder()
+                    .id(1L).estateName("테스트 매물 1").estateType(EstateType.OR).tradeType(TradeType.B2)
+                    .price(new BigDecimal("10000000")).latitude(37.5).longitude(127.0).totalScore(8.0)
+                    .factorIds(new Long[]{1L}).factorScores(new Double[]{8.0})
+                    .build(),
+                EstateSummary.builder()
+                    .id(2L).estateName("테스트 매물 2").estateType(EstateType.OR).tradeType(TradeType.A1)
+                    .latitude(37.6).longitude(127.1).totalScore(0.0)
+                    .factorIds(new Long[0]).factorScores(new Double[0])
+                    .build()
+            );
+            when(estateService.findEstateColumnsInViewport(any(), isNull()))
+                .thenReturn(EstateColumnsResponse.from(summaries, id -> "점수 유형 " + id));
+
+            // when & then
+            mockMvc.perform(get("/api/v1/estates/map")
+                    .accept(EstateColumnsResponse.MEDIA_TYPE)
+                    .param("swLng", String.valueOf(request.swLng()))
+                    .param("swLat", String.valueOf(request.swLat()))
+                    .param("neLng", String.valueOf(request.neLng()))
+                    .param("neLat", String.valueOf(request.neLat()))
+                    .param("zoom", String.valueOf(request.zoom())))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.count").value(2))
+                .andExpect(jsonPath("$.ids[1]").value(2))
+                .andExpect(jsonPath("$.lat[0]").value(37_500_000))
+                .andExpect(jsonPath("$.typeDictionary.length()").value(1))
+                .andExpect(jsonPath("$.types[1]").value(0))
+                .andExpect(jsonPath("$.factorDictionary['1']").value("점수 유형 1"))
+                .andExpect(jsonPath("$.factorOffsets[2]").value(1));
+
+            // verify
+            verify(estateService).findEstateColumnsInViewport(any(), isNull());
+            verify(estateService, never()).findEstatesInViewport(any(), any());
+        }
+
+        @Test
+        @DisplayName("금액은 원 단위로 반올림하고, 이름을 찾지 못한 점수 유형도 사전에 자리표시 이름으로 포함")
+        void shouldRoundPricesAndKeepUnknownFactors_When_BuildingColumns() {
+            // given
+            List<EstateSummary> summaries = List.of(
+                EstateSummary.builder()
+                    .id(1L).price(new BigDecimal("10000000.5")).rentPrice(new BigDecimal("499999.4"))
+                    .factorIds(new Long[]{1L, 99L}).factorScores(new Double[]{8.0, 5.0})
+                    .build()
+            );
+
+            // when
+            EstateColumnsResponse response = EstateColumnsResponse.from(summaries, id -> id == 1L ? "점수 유형 1" : null);
+
+            // then
+            assertEquals(10_000_001L, response.prices()[0]);
+            assertEquals(499_999L, response.rentPrices()[0]);
+            assertEquals("점수 유형 1", response.factorDictionary().get(1L));
+            assertEquals(EstateColumnsResponse.UNKNOWN_FACTOR_NAME, response.factorDictionary().get(99L));
+        }
+    }
+
+    @Nested
+    @DisplayName("매물 목록 스트리밍 API 테스트")
+    class StreamTests {
+
+        @Test
+        @DisplayName("스트리밍 조회 시 서비스가 전달한 매물을 JSON 배열로 기록")
+        @SuppressWarnings("unchecked")
+        void shouldWriteJsonArray_When_StreamingEstates() throws Exception {
+            // given
+            ViewportRequest request = createViewportRequest();
+            doAnswer(invocation -> {
+                Consumer<EstateResponse> consumer = invocation.getArgument(2);
+                consumer.accept(EstateResponse.from(createEstate(1L), createScoreSummary(8.0, 2)));
+                consumer.accept(EstateResponse.from(createEstate(2L), createScoreSummary(6.0, 1)));
+                return 2;
+            }).when(estateService).streamEstatesInViewport(any(), isNull(), any(Consumer.class));
+
+            // when
+            MvcResult result = mockMvc.perform(get("/api/v1/estates/map/stream")
+                    .param("swLng", String.valueOf(request.swLng()))
+                    .param("swLat", String.valueOf(request.swLat()))
+                    .param("neLng", String.valueOf(request.neLng()))
+                    .param("neLat", String.valueOf(request.neLat()))
+                    .param("zoom", String.valueOf(request.zoom())))
+                .andExpect(MockMvcResultMatchers.request().asyncStarted())
+                .andReturn();
+
+            // then
+            mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].id").value(1))
+                .andExpect(jsonPath("$[1].score.total").value(6.0));
+
+            // verify
+            verify(estateService).validateViewport(any());
+            verify(estateService, never()).findEstatesInViewport(any(), any());
+        }
+
+        @Test
+        @DisplayName("유효하지 않은 뷰포트는 스트리밍 시작 전에 400 Bad Request 반환")
+        void shouldReturnBadRequest_When_StreamingInvalidViewport() throws Exception {
+            // given
+            doThrow(new ServiceException(ErrorCode.BAD_REQUEST, "뷰포트 좌표가 유효하지 않습니다."))
+                .when(estateService).validateViewport(any());
+
+            // when & then
+            mockMvc.perform(get("/api/v1/estates/map/stream")
+                    .param("swLng", "127.0")
+                    .param("swLat", "38.0")
+                    .param("neLng", "126.0")
+                    .param("neLat", "37.0")
+                    .param("zoom", "15"))
+                .andExpect(status().isBadRequest());
+
+            // verify
+            verify(estateService, never()).streamEstatesInViewport(any(), any(), any());
+        }
+    }
+
     @Nested
     @DisplayName("Score Type API 테스트")
     class ScoreTypeTests {
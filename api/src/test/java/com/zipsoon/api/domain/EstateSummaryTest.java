@@ -0,0 +1,72 @@
+package com.zipsoon.api.domain;
+
+import com.zipsoon.api.domain.estate.EstateSummary;
+import com.zipsoon.api.domain.user.DisabledScoreTypes;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EstateSummaryTest {
+
+    // 요소는 점수 내림차순: 1(9.0), 2(8.0), 3(6.0), 4(4.0), 5(3.0) → 합계 30.0, 평균 6.0
+    private EstateSummary summary() {
+        return EstateSummary.builder()
+            .id(1L)
+            .totalScore(6.0)
+            .factorIds(new Long[]{1L, 2L, 3L, 4L, 5L})
+            .factorScores(new Double[]{9.0, 8.0, 6.0, 4.0, 3.0})
+            .scoreSum(30.0)
+            .scoreCount(5)
+            .build();
+    }
+
+    @Test
+    @DisplayName("비활성화 설정이 없으면 평균은 그대로 두고 상위 3개 요소만 남김")
+    void shouldKeepTopThree_When_NothingDisabled() {
+        // when
+        EstateSummary result = summary().personalize(DisabledScoreTypes.empty());
+
+        // then
+        assertEquals(6.0, result.getTotalScore());
+        assertArrayEquals(new Long[]{1L, 2L, 3L}, result.getFactorIds());
+        assertArrayEquals(new Double[]{9.0, 8.0, 6.0}, result.getFactorScores());
+    }
+
+    @Test
+    @DisplayName("비활성화된 요소는 합계와 개수에서 빠지고 나머지로 평균 계산")
+    void shouldSubtractDisabledFactors_From_SumAndCount() {
+        // when (9.0, 4.0 제외 → (8.0 + 6.0 + 3.0) / 3)
+        EstateSummary result = summary().personalize(DisabledScoreTypes.of(List.of(1, 4)));
+
+        // then
+        assertEquals(17.0, result.getScoreSum());
+        assertEquals(3, result.getScoreCount());
+        assertEquals(17.0 / 3, result.getTotalScore(), 1e-9);
+    }
+
+    @Test
+    @DisplayName("상위 3개 요소는 비활성화된 요소를 걸러낸 뒤에 고름")
+    void shouldPickTopThree_After_FilteringDisabled() {
+        // when
+        EstateSummary result = summary().personalize(DisabledScoreTypes.of(List.of(1, 3)));
+
+        // then (1, 3을 건너뛰고 2, 4, 5)
+        assertArrayEquals(new Long[]{2L, 4L, 5L}, result.getFactorIds());
+        assertArrayEquals(new Double[]{8.0, 4.0, 3.0}, result.getFactorScores());
+    }
+
+    @Test
+    @DisplayName("모든 요소가 비활성화되면 총점은 0이고 요소가 없음")
+    void shouldReturnZero_When_AllFactorsDisabled() {
+        // when
+        EstateSummary result = summary().personalize(DisabledScoreTypes.of(List.of(1, 2, 3, 4, 5)));
+
+        // then
+        assertEquals(0.0, result.getTotalScore());
+        assertEquals(0, result.getScoreCount());
+        assertEquals(0, result.getFactorCount());
+    }
+}
@@ -0,0 +1,79 @@
+package com.zipsoon.api.infrastructure;
+
+import com.zipsoon.api.infrastructure.generation.DataGenerationChangedEvent;
+import com.zipsoon.api.infrastructure.generation.DataGenerationWatcher;
+import com.zipsoon.api.infrastructure.repository.generation.DataGenerationRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DataGenerationWatcherTest {
+
+    @Mock
+    private DataGenerationRepository dataGenerationRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private DataGenerationWatcher dataGenerationWatcher;
+
+    @Test
+    @DisplayName("세대 번호가 바뀌면 이전 세대와 새 세대를 담아 이벤트 발행")
+    void shouldPublishEvent_When_GenerationChanged() {
+        // given
+        when(dataGenerationRepository.findLatestGeneration()).thenReturn(1L, 2L);
+
+        // when
+        dataGenerationWatcher.checkGeneration();
+        dataGenerationWatcher.checkGeneration();
+
+        // then
+        verify(eventPublisher).publishEvent(new DataGenerationChangedEvent(-1, 1));
+        verify(eventPublisher).publishEvent(new DataGenerationChangedEvent(1, 2));
+        assertEquals(2L, dataGenerationWatcher.getCurrentGeneration());
+    }
+
+    @Test
+    @DisplayName("세대 번호가 그대로면 이벤트를 다시 발행하지 않음")
+    void shouldNotPublishEvent_When_GenerationUnchanged() {
+        // given
+        when(dataGenerationRepository.findLatestGeneration()).thenReturn(1L);
+
+        // when
+        dataGenerationWatcher.checkGeneration();
+        dataGenerationWatcher.checkGeneration();
+
+        // then
+        verify(eventPublisher, times(1)).publishEvent(any(DataGenerationChangedEvent.class));
+    }
+
+    @Test
+    @DisplayName("리스너 처리에 실패하면 세대 번호를 갱신하지 않아 다음 주기에 다시 발행")
+    void shouldRetryNextPoll_When_ListenerFails() {
+        // given
+        when(dataGenerationRepository.findLatestGeneration()).thenReturn(1L);
+        doThrow(new IllegalStateException("적재 실패"))
+            .doNothing()
+            .when(eventPublisher).publishEvent(any(DataGenerationChangedEvent.class));
+
+        // when
+        dataGenerationWatcher.checkGeneration();
+        long afterFailure = dataGenerationWatcher.getCurrentGeneration();
+        dataGenerationWatcher.checkGeneration();
+
+        // then
+        assertEquals(-1L, afterFailure);
+        assertEquals(1L, dataGenerationWatcher.getCurrentGeneration());
+        verify(eventPublisher, times(2)).publishEvent(any(DataGenerationChangedEvent.class));
+    }
+}
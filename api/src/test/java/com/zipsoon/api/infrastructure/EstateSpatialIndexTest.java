@@ -0,0 +1,131 @@
+package com.zipsoon.api.infrastructure;
+
+import com.zipsoon.api.domain.estate.EstateSummary;
+import com.zipsoon.api.infrastructure.generation.DataGenerationChangedEvent;
+import com.zipsoon.api.infrastructure.index.EstateSpatialIndex;
+import com.zipsoon.api.infrastructure.repository.estate.ApiEstateRepository;
+import com.zipsoon.api.interfaces.api.estate.dto.ViewportRequest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EstateSpatialIndexTest {
+
+    private static final ViewportRequest SEOUL = new ViewportRequest(126.9, 37.4, 127.1, 37.6, 15);
+
+    @Mock
+    private ApiEstateRepository apiEstateRepository;
+
+    @InjectMocks
+    private EstateSpatialIndex estateSpatialIndex;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(estateSpatialIndex, "enabled", true);
+    }
+
+    private EstateSummary summary(long id, double longitude, double latitude) {
+        return EstateSummary.builder()
+            .id(id)
+            .longitude(longitude)
+            .latitude(latitude)
+            .build();
+    }
+
+    private List<Long> ids(List<EstateSummary> summaries) {
+        return summaries.stream().map(EstateSummary::getId).sorted().toList();
+    }
+
+    @Test
+    @DisplayName("첫 적재 전에는 준비되지 않은 상태이며 조회하면 예외 발생")
+    void shouldThrow_When_QueriedBeforeFirstLoad() {
+        // when & then
+        assertFalse(estateSpatialIndex.isReady());
+        assertThrows(IllegalStateException.class, () -> estateSpatialIndex.query(SEOUL, 10));
+        verifyNoInteractions(apiEstateRepository);
+    }
+
+    @Test
+    @DisplayName("뷰포트 범위 안의 매물만 조회")
+    void shouldReturnOnlyEstatesInsideEnvelope() {
+        // given
+        when(apiEstateRepository.findAllSummaries()).thenReturn(List.of(
+            summary(1L, 127.0, 37.5),
+            summary(2L, 126.95, 37.45),
+            summary(3L, 129.0, 35.1),   // 부산
+            summary(4L, 127.0, 37.7)    // 위도 범위 밖
+        ));
+        estateSpatialIndex.onDataGenerationChanged(new DataGenerationChangedEvent(-1, 1));
+
+        // when
+        List<EstateSummary> result = estateSpatialIndex.query(SEOUL, 10);
+
+        // then
+        assertTrue(estateSpatialIndex.isReady());
+        assertEquals(List.of(1L, 2L), ids(result));
+    }
+
+    @Test
+    @DisplayName("조회 결과가 제한 개수를 넘으면 제한 개수만큼만 반환")
+    void shouldTruncateToLimit_When_ResultsExceedLimit() {
+        // given
+        when(apiEstateRepository.findAllSummaries()).thenReturn(List.of(
+            summary(1L, 127.00, 37.50),
+            summary(2L, 127.01, 37.51),
+            summary(3L, 127.02, 37.52),
+            summary(4L, 127.03, 37.53)
+        ));
+        estateSpatialIndex.onDataGenerationChanged(new DataGenerationChangedEvent(-1, 1));
+
+        // when
+        List<EstateSummary> result = estateSpatialIndex.query(SEOUL, 2);
+
+        // then
+        assertEquals(2, result.size());
+    }
+
+    @Test
+    @DisplayName("새 데이터 세대 이벤트를 받으면 새로 적재한 인덱스로 교체")
+    void shouldSwapSnapshot_When_DataGenerationChanged() {
+        // given
+        when(apiEstateRepository.findAllSummaries())
+            .thenReturn(List.of(summary(1L, 127.0, 37.5)))
+            .thenReturn(List.of(summary(2L, 127.0, 37.5), summary(3L, 127.05, 37.55)));
+        estateSpatialIndex.onDataGenerationChanged(new DataGenerationChangedEvent(-1, 1));
+        List<EstateSummary> before = estateSpatialIndex.query(SEOUL, 10);
+
+        // when
+        estateSpatialIndex.onDataGenerationChanged(new DataGenerationChangedEvent(1, 2));
+        List<EstateSummary> after = estateSpatialIndex.query(SEOUL, 10);
+
+        // then (이전 조회 결과는 이전 인덱스 그대로 유지)
+        assertEquals(List.of(1L), ids(before));
+        assertEquals(List.of(2L, 3L), ids(after));
+        verify(apiEstateRepository, times(2)).findAllSummaries();
+    }
+
+    @Test
+    @DisplayName("인덱스를 비활성화하면 이벤트를 받아도 적재하지 않고 준비되지 않은 상태 유지")
+    void shouldNotLoad_When_Disabled() {
+        // given
+        ReflectionTestUtils.setField(estateSpatialIndex, "enabled", false);
+
+        // when
+        estateSpatialIndex.onDataGenerationChanged(new DataGenerationChangedEvent(-1, 1));
+
+        // then
+        assertFalse(estateSpatialIndex.isReady());
+        verifyNoInteractions(apiEstateRepository);
+    }
+}
@@ -0,0 +1,151 @@
+package com.zipsoon.api.infrastructure;
+
+import com.zipsoon.api.domain.auth.Role;
+import com.zipsoon.api.domain.auth.UserPrincipal;
+import com.zipsoon.api.infrastructure.cache.UserPrincipalCache;
+import com.zipsoon.api.infrastructure.exception.custom.JwtAuthenticationException;
+import com.zipsoon.api.infrastructure.exception.custom.ServiceException;
+import com.zipsoon.api.infrastructure.exception.model.ErrorCode;
+import com.zipsoon.api.infrastructure.jwt.JwtProperties;
+import com.zipsoon.api.infrastructure.jwt.JwtProvider;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+
+import java.util.Base64;
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class JwtProviderTest {
+
+    // HS512 서명에 필요한 64바이트 키
+    private static final byte[] SECRET = "zipsoon-jwt-provider-test-secret-key-must-be-at-least-64-bytes!!".getBytes();
+    private static final Long USER_ID = 1L;
+    private static final String EMAIL = "test@example.com";
+
+    @Mock
+    private UserPrincipalCache userPrincipalCache;
+
+    private JwtProvider jwtProvider;
+
+    @BeforeEach
+    void setUp() {
+        JwtProperties jwtProperties = new JwtProperties();
+        jwtProperties.setSecretKey(Base64.getEncoder().encodeToString(SECRET));
+        jwtProperties.setAccessTokenValidityInMilliseconds(60_000);
+        jwtProperties.setRefreshTokenValidityInMilliseconds(120_000);
+        jwtProvider = new JwtProvider(jwtProperties, userPrincipalCache);
+    }
+
+    private String createToken(Role role) {
+        UserPrincipal principal = UserPrincipal.of(USER_ID, EMAIL, role);
+        return jwtProvider.createAccessToken(
+            new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+    }
+
+    @Test
+    @DisplayName("발급한 토큰에는 역할과 이메일 클레임이 포함된다")
+    void shouldContainRoleAndEmailClaims_When_TokenCreated() {
+        // given
+        String token = createToken(Role.ADMIN);
+
+        // when
+        Claims claims = jwtProvider.parseClaims(token);
+
+        // then
+        assertEquals(USER_ID.toString(), claims.getSubject());
+        assertEquals(Role.ADMIN.name(), claims.get("role", String.class));
+        assertEquals(EMAIL, claims.get("email", String.class));
+    }
+
+    @Test
+    @DisplayName("인증 정보는 토큰 클레임으로 구성하고, 사용자 존재 여부는 캐시로 확인한다")
+    void shouldBuildPrincipalFromClaims_When_UserExists() {
+        // given (캐시의 역할과 달라도 토큰 클레임을 따른다)
+        String token = createToken(Role.ADMIN);
+        when(userPrincipalCache.get(USER_ID)).thenReturn(UserPrincipal.of(USER_ID, EMAIL, Role.USER));
+
+        // when
+        Authentication authentication = jwtProvider.getAuthentication(token);
+
+        // then
+        UserPrincipal principal = (UserPrincipal) authentication.getPrincipal();
+        assertEquals(USER_ID, principal.getId());
+        assertEquals(EMAIL, principal.getEmail());
+        assertEquals(Role.ADMIN.name(), principal.getAuthorities().iterator().next().getAuthority());
+        verify(userPrincipalCache).get(USER_ID);
+    }
+
+    @Test
+    @DisplayName("요청당 토큰 검증은 한 번만 수행한다")
+    void shouldParseTokenOnce_When_Authenticating() {
+        // given
+        JwtProvider spyProvider = spy(jwtProvider);
+        String token = createToken(Role.USER);
+        when(userPrincipalCache.get(USER_ID)).thenReturn(UserPrincipal.of(USER_ID, EMAIL, Role.USER));
+
+        // when
+        spyProvider.getAuthentication(token);
+
+        // then
+        verify(spyProvider, times(1)).parseClaims(anyString());
+        verify(spyProvider, times(1)).getAuthentication(any(Claims.class));
+    }
+
+    @Test
+    @DisplayName("역할 클레임이 없는 이전 형식의 토큰은 캐시에서 조회한 사용자 정보를 사용한다")
+    void shouldUseCachedPrincipal_When_RoleClaimMissing() {
+        // given
+        String legacyToken = Jwts.builder()
+            .setSubject(USER_ID.toString())
+            .setIssuedAt(new Date())
+            .setExpiration(new Date(System.currentTimeMillis() + 60_000))
+            .signWith(Keys.hmacShaKeyFor(SECRET), SignatureAlgorithm.HS512)
+            .compact();
+        UserPrincipal cachedPrincipal = UserPrincipal.of(USER_ID, EMAIL, Role.USER);
+        when(userPrincipalCache.get(USER_ID)).thenReturn(cachedPrincipal);
+
+        // when
+        Authentication authentication = jwtProvider.getAuthentication(legacyToken);
+
+        // then
+        assertSame(cachedPrincipal, authentication.getPrincipal());
+    }
+
+    @Test
+    @DisplayName("탈퇴한 사용자의 토큰은 서명이 유효해도 거부한다")
+    void shouldRejectToken_When_UserDeleted() {
+        // given
+        String token = createToken(Role.USER);
+        when(userPrincipalCache.get(USER_ID)).thenThrow(new ServiceException(ErrorCode.USER_NOT_FOUND));
+
+        // when & then
+        JwtAuthenticationException exception = assertThrows(JwtAuthenticationException.class,
+            () -> jwtProvider.getAuthentication(token));
+        assertEquals(ErrorCode.INVALID_TOKEN, exception.getErrorCode());
+    }
+
+    @Test
+    @DisplayName("형식이 잘못된 토큰은 사용자 조회 없이 거부한다")
+    void shouldRejectToken_When_Malformed() {
+        // when & then
+        JwtAuthenticationException exception = assertThrows(JwtAuthenticationException.class,
+            () -> jwtProvider.getAuthentication("not-a-jwt"));
+        assertEquals(ErrorCode.MALFORMED_TOKEN, exception.getErrorCode());
+        verifyNoInteractions(userPrincipalCache);
+    }
+}
@@ -0,0 +1,99 @@
+package com.zipsoon.api.service;
+
+import com.zipsoon.api.application.estate.EstateService;
+import com.zipsoon.api.application.estate.ScoreService;
+import com.zipsoon.api.domain.estate.EstateSummary;
+import com.zipsoon.api.domain.user.DisabledScoreTypes;
+import com.zipsoon.api.infrastructure.cache.ScoreTypeCatalog;
+import com.zipsoon.api.infrastructure.index.EstateSpatialIndex;
+import com.zipsoon.api.infrastructure.repository.estate.ApiEstateRepository;
+import com.zipsoon.api.infrastructure.repository.user.UserFavoriteEstateRepository;
+import com.zipsoon.api.interfaces.api.estate.dto.EstateResponse;
+import com.zipsoon.api.interfaces.api.estate.dto.ViewportRequest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EstateServiceTest {
+
+    private static final ViewportRequest VIEWPORT = new ViewportRequest(126.9, 37.4, 127.1, 37.6, 15);
+
+    @Mock
+    private ScoreService scoreService;
+
+    @Mock
+    private ApiEstateRepository apiEstateRepository;
+
+    @Mock
+    private UserFavoriteEstateRepository userFavoriteEstateRepository;
+
+    @Mock
+    private EstateSpatialIndex estateSpatialIndex;
+
+    @Mock
+    private ScoreTypeCatalog scoreTypeCatalog;
+
+    @InjectMocks
+    private EstateService estateService;
+
+    private EstateSummary summary(long id) {
+        return EstateSummary.builder()
+            .id(id)
+            .longitude(127.0)
+            .latitude(37.5)
+            .build();
+    }
+
+    @Nested
+    @DisplayName("뷰포트 매물 조회 경로 테스트")
+    class ViewportSourceTests {
+
+        @BeforeEach
+        void setUp() {
+            when(scoreService.getDisabledScoreTypeIds(null)).thenReturn(DisabledScoreTypes.empty());
+        }
+
+        @Test
+        @DisplayName("공간 인덱스가 준비되어 있으면 데이터베이스를 조회하지 않고 인덱스에서 조회")
+        void shouldQueryIndex_When_IndexReady() {
+            // given
+            when(estateSpatialIndex.isReady()).thenReturn(true);
+            when(estateSpatialIndex.query(VIEWPORT, 500)).thenReturn(List.of(summary(1L)));
+
+            // when
+            List<EstateResponse> result = estateService.findEstatesInViewport(VIEWPORT, null);
+
+            // then
+            assertEquals(1, result.size());
+            verify(apiEstateRepository, never()).findAllInViewportWithScores(any(), anyInt());
+        }
+
+        @Test
+        @DisplayName("공간 인덱스가 준비되지 않았으면(비활성화 포함) 데이터베이스에서 조회")
+        void shouldFallBackToDatabase_When_IndexNotReady() {
+            // given
+            when(estateSpatialIndex.isReady()).thenReturn(false);
+            when(apiEstateRepository.findAllInViewportWithScores(VIEWPORT, 500)).thenReturn(List.of(summary(1L), summary(2L)));
+
+            // when
+            List<EstateResponse> result = estateService.findEstatesInViewport(VIEWPORT, null);
+
+            // then
+            assertEquals(2, result.size());
+            verify(estateSpatialIndex, never()).query(any(), anyInt());
+        }
+    }
+}
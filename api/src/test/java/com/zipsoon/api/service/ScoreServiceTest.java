@@ -0,0 +1,145 @@
+package com.zipsoon.api.service;
+
+import com.zipsoon.api.application.estate.ScoreService;
+import com.zipsoon.api.domain.user.DisabledScoreTypes;
+import com.zipsoon.api.infrastructure.cache.DisabledScoreTypeCache;
+import com.zipsoon.api.infrastructure.cache.ScoreTypeCatalog;
+import com.zipsoon.api.infrastructure.repository.estate.ApiScoreRepository;
+import com.zipsoon.api.infrastructure.repository.user.UserDisabledScoreTypeRepository;
+import com.zipsoon.api.interfaces.api.estate.dto.EstateScoreResponse;
+import com.zipsoon.api.interfaces.api.estate.dto.ScoreSummaryResponse;
+import com.zipsoon.common.domain.score.ScoreType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ScoreServiceTest {
+
+    @Mock
+    private ApiScoreRepository apiScoreRepository;
+
+    @Mock
+    private UserDisabledScoreTypeRepository userDisabledScoreTypeRepository;
+
+    @Mock
+    private DisabledScoreTypeCache disabledScoreTypeCache;
+
+    @Mock
+    private ScoreTypeCatalog scoreTypeCatalog;
+
+    @InjectMocks
+    private ScoreService scoreService;
+
+    private EstateScoreResponse score(Long estateId, Long scoreTypeId, Double normalizedScore) {
+        return new EstateScoreResponse(estateId, scoreTypeId, normalizedScore);
+    }
+
+    private void stubScoreTypeCatalog() {
+        when(scoreTypeCatalog.get(anyLong())).thenAnswer(invocation -> {
+            Long id = invocation.getArgument(0);
+            return ScoreType.builder().id(id).name("유형" + id).description("설명").active(true).build();
+        });
+    }
+
+    @Nested
+    @DisplayName("점수 요약 일괄 조회 테스트")
+    class ScoreSummariesTests {
+
+        @Test
+        @DisplayName("여러 매물의 점수를 한 번에 조회해 매물별 요약을 생성")
+        void shouldBuildSummariesForAllEstates_When_ScoresLoadedInBulk() {
+            // given
+            var estateIds = List.of(1L, 2L, 3L);
+            stubScoreTypeCatalog();
+            when(apiScoreRepository.findScoresByEstateIds(estateIds)).thenReturn(List.of(
+                score(1L, 1L, 8.0),
+                score(1L, 2L, 6.0),
+                score(2L, 1L, 4.0)
+            ));
+
+            // when
+            Map<Long, ScoreSummaryResponse> result = scoreService.getScoreSummaries(estateIds, null);
+
+            // then
+            assertEquals(3, result.size());
+            assertEquals(7.0, result.get(1L).total());
+            assertEquals(2, result.get(1L).topFactors().size());
+            assertEquals(1L, result.get(1L).topFactors().get(0).id());
+            assertEquals("유형1", result.get(1L).topFactors().get(0).name());
+            assertEquals(4.0, result.get(2L).total());
+            assertEquals(0.0, result.get(3L).total());
+            assertTrue(result.get(3L).topFactors().isEmpty());
+
+            verify(apiScoreRepository, times(1)).findScoresByEstateIds(estateIds);
+            verify(apiScoreRepository, never()).findScoresByEstateId(anyLong());
+            verifyNoInteractions(disabledScoreTypeCache);
+        }
+
+        @Test
+        @DisplayName("사용자 비활성화 설정은 요청당 한 번만 조회해 모든 매물에 적용")
+        void shouldApplyDisabledScoreTypesOnce_When_UserLoggedIn() {
+            // given
+            var estateIds = List.of(1L, 2L);
+            stubScoreTypeCatalog();
+            when(disabledScoreTypeCache.get(100L)).thenReturn(DisabledScoreTypes.of(List.of(1)));
+            when(apiScoreRepository.findScoresByEstateIds(estateIds)).thenReturn(List.of(
+                score(1L, 1L, 8.0),
+                score(1L, 2L, 6.0),
+                score(2L, 1L, 4.0)
+            ));
+
+            // when
+            Map<Long, ScoreSummaryResponse> result = scoreService.getScoreSummaries(estateIds, 100L);
+
+            // then
+            assertEquals(6.0, result.get(1L).total());
+            assertEquals(1, result.get(1L).topFactors().size());
+            assertEquals(2L, result.get(1L).topFactors().get(0).id());
+            assertEquals(0.0, result.get(2L).total());
+
+            verify(disabledScoreTypeCache, times(1)).get(100L);
+        }
+    }
+
+    @Nested
+    @DisplayName("점수 유형 활성화 설정 테스트")
+    class DisabledScoreTypeTests {
+
+        @Test
+        @DisplayName("점수 유형 비활성화 시 저장 후 사용자 캐시 무효화")
+        void shouldInvalidateCache_When_ScoreTypeDisabled() {
+            // when
+            scoreService.disableScoreType(100L, 1);
+
+            // then (인스턴스별 캐시로 사전 확인하지 않음)
+            verify(disabledScoreTypeCache, never()).get(anyLong());
+            verify(userDisabledScoreTypeRepository).save(any());
+            verify(disabledScoreTypeCache).invalidate(100L);
+        }
+
+        @Test
+        @DisplayName("점수 유형 활성화 시 삭제 후 사용자 캐시 무효화")
+        void shouldInvalidateCache_When_ScoreTypeEnabled() {
+            // when
+            scoreService.enableScoreType(100L, 1);
+
+            // then (인스턴스별 캐시로 사전 확인하지 않음)
+            verify(disabledScoreTypeCache, never()).get(anyLong());
+            verify(userDisabledScoreTypeRepository).delete(100L, 1);
+            verify(disabledScoreTypeCache).invalidate(100L);
+        }
+    }
+}
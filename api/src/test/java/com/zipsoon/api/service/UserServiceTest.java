@@ -0,0 +1,42 @@
+package com.zipsoon.api.service;
+
+import com.zipsoon.api.application.user.UserService;
+import com.zipsoon.api.infrastructure.cache.UserPrincipalCache;
+import com.zipsoon.api.infrastructure.repository.user.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.mockito.Mockito.inOrder;
+
+@ExtendWith(MockitoExtension.class)
+class UserServiceTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private UserPrincipalCache userPrincipalCache;
+
+    @InjectMocks
+    private UserService userService;
+
+    @Test
+    @DisplayName("회원 탈퇴 시 사용자를 삭제하고 인증 주체 캐시를 무효화한다")
+    void shouldInvalidatePrincipalCache_When_AccountDeleted() {
+        // given
+        Long userId = 1L;
+
+        // when
+        userService.deleteAccount(userId);
+
+        // then
+        InOrder inOrder = inOrder(userRepository, userPrincipalCache);
+        inOrder.verify(userRepository).delete(userId);
+        inOrder.verify(userPrincipalCache).invalidate(userId);
+    }
+}
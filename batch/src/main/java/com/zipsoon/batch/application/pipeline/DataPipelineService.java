@@ -1,6 +1,7 @@
 package com.zipsoon.batch.application.pipeline;
 
 import com.zipsoon.batch.application.pipeline.step.*;
+import com.zipsoon.batch.infrastructure.repository.generation.DataGenerationRepository;
 import com.zipsoon.batch.job.migration.DatabaseInitJobRunner;
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
@@ -8,6 +9,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -15,15 +17,18 @@ import java.util.Map;
 /**
  * 전체 데이터 파이프라인 흐름을 관리하는 서비스
  * 
- * <p>데이터 파이프라인은 다음 단계를 순차적으로 실행합니다:</p>
+ * <p>데이터 파이프라인은 다음 단계를 실행합니다:</p>
  * <ol>
- *   <li>데이터베이스 초기화 및 마이그레이션</li>
- *   <li>부동산 매물 수집 (Estate Collection)</li>
+ *   <li>데이터베이스 초기화 (법정동 코드)</li>
+ *   <li>부동산 매물 수집 (Estate Collection) - 바뀐 매물만 갱신하고 내려간 매물은 삭제 표시</li>
  *   <li>점수 계산 소스 데이터 수집 (Source Collection)</li>
  *   <li>매물별 점수 계산 (Score Calculation)</li>
  *   <li>점수 정규화 (Normalization)</li>
  * </ol>
  * 
+ * <p>데이터베이스 초기화 후 각 단계는 선언한 선행 단계가 끝나면 실행되며, 매물 수집과 소스 수집처럼
+ * 서로 의존하지 않는 단계는 {@link PipelineDagExecutor}가 동시에 실행합니다.</p>
+ * 
  * <p>각 단계는 개별적으로 실행 가능하며, 특정 단계에서 오류가 발생해도 
  * 다음 단계를 실행할 수 있도록 설계되어 있습니다. 이는 데이터 파이프라인의 
  * 복원력을 높이고 부분적인 실행을 가능하게 합니다.</p>
@@ -37,6 +42,8 @@ public class DataPipelineService {
     private final SourceCollectionStep sourceCollectionStep;
     private final ScoreCalculationStep scoreCalculationStep;
     private final NormalizationStep normalizationStep;
+    private final DataGenerationRepository dataGenerationRepository;
+    private final PipelineDagExecutor pipelineDagExecutor;
     
     private final Map<String, PipelineStep> stepMap = new LinkedHashMap<>();
     
@@ -52,7 +59,7 @@ public class DataPipelineService {
 
     /**
      * 전체 데이터 파이프라인 실행
-     * 모든 단계를 순차적으로 실행하며, 각 단계의 실패는 후속 단계에 영향을 주지 않음
+     * 모든 단계를 의존 관계에 따라 실행하며, 각 단계의 실패는 후속 단계에 영향을 주지 않음
      */
     public void runFullPipeline() {
         log.info("[BATCH:JOB-START] 전체 데이터 파이프라인 실행 시작");
@@ -64,7 +71,7 @@ public class DataPipelineService {
             runPipelineSteps(stepMap.values());
             
         } catch (Exception e) {
-            log.error("[BATCH:JOB-ERR] 데이터베이스 마이그레이션 오류: {}", e.getMessage(), e);
+            log.error("[BATCH:JOB-ERR] 데이터베이스 초기화 오류: {}", e.getMessage(), e);
         }
         
         log.info("[BATCH:JOB-END] 전체 데이터 파이프라인 실행 완료");
@@ -101,36 +108,27 @@ public class DataPipelineService {
     }
     
     /**
-     * 지정된 단계들을 순차적으로 실행
+     * 지정된 단계들을 의존 관계에 따라 실행
+     * 서로 의존하지 않는 단계(매물 수집, 소스 수집)는 동시에 실행되므로 전체 소요 시간은 가장 긴 의존 경로에 맞춰짐
      * @param steps 실행할 단계 목록
      */
-    private void runPipelineSteps(Iterable<PipelineStep> steps) {
-        log.info("[BATCH:PIPELINE-START] 파이프라인 실행 시작");
+    private void runPipelineSteps(Collection<PipelineStep> steps) {
+        log.info("[BATCH:PIPELINE-START] 파이프라인 실행 시작 - 단계별 선행 단계: {}", dependencyPlan(steps));
         
+        long pipelineStartTime = System.currentTimeMillis();
+        List<PipelineStepResult> results = pipelineDagExecutor.execute(steps);
+
         List<String> succeededSteps = new ArrayList<>();
         List<String> failedSteps = new ArrayList<>();
         Map<String, Long> executionTimes = new LinkedHashMap<>();
-        long pipelineStartTime = System.currentTimeMillis();
-
-        for (PipelineStep step : steps) {
-            String stepName = step.getStepName();
-            
-            // 단계 시작 로깅은 각 단계 구현체에 위임
-            step.logStepStart();
-            
-            // 단계 실행 및 시간 측정
-            long startTime = System.currentTimeMillis();
-            boolean success = step.execute();
-            long executionTime = System.currentTimeMillis() - startTime;
-            executionTimes.put(stepName, executionTime);
-            
-            // 단계 종료 로깅은 각 단계 구현체에 위임
-            step.logStepEnd(success, executionTime);
-            
-            if (success) {
-                succeededSteps.add(stepName);
+        Map<String, String> timelines = new LinkedHashMap<>();
+        for (PipelineStepResult result : results) {
+            executionTimes.put(result.stepName(), result.executionTimeMs());
+            timelines.put(result.stepName(), result.startOffsetMs() + "~" + result.endOffsetMs() + "ms");
+            if (result.success()) {
+                succeededSteps.add(result.stepName());
             } else {
-                failedSteps.add(stepName);
+                failedSteps.add(result.stepName());
             }
         }
         
@@ -141,11 +139,38 @@ public class DataPipelineService {
         log.info("[BATCH:PIPELINE-SUMMARY] 성공한 단계: {}", succeededSteps);
         log.info("[BATCH:PIPELINE-SUMMARY] 실패한 단계: {}", failedSteps);
         log.info("[BATCH:PIPELINE-SUMMARY] 단계별 실행 시간: {}", executionTimes);
+        log.info("[BATCH:PIPELINE-SUMMARY] 단계별 실행 구간: {}", timelines);
+
+        // 데이터가 갱신된 경우 새 세대를 기록해 API 서버 캐시 갱신을 유도
+        if (!succeededSteps.isEmpty()) {
+            publishDataGeneration();
+        }
         
         log.info("[BATCH:PIPELINE-END] 파이프라인 실행 완료 - 상태: {}", 
                 failedSteps.isEmpty() ? "성공" : "일부 실패");
     }
     
+    private static Map<String, List<String>> dependencyPlan(Collection<PipelineStep> steps) {
+        Map<String, List<String>> plan = new LinkedHashMap<>();
+        for (PipelineStep step : steps) {
+            plan.put(step.getStepName(), step.getDependencies());
+        }
+        return plan;
+    }
+
+    /**
+     * 새 데이터 세대 기록
+     * 기록 실패는 파이프라인 결과에 영향을 주지 않으며, 다음 실행에서 다시 기록됨
+     */
+    private void publishDataGeneration() {
+        try {
+            long generation = dataGenerationRepository.publishGeneration();
+            log.info("[BATCH:PIPELINE-SUMMARY] 데이터 세대 기록: {}", generation);
+        } catch (Exception e) {
+            log.error("[BATCH:PIPELINE-ERR] 데이터 세대 기록 실패: {}", e.getMessage(), e);
+        }
+    }
+
     /**
      * 파이프라인 부분 실행 - 매물 수집부터 시작
      */
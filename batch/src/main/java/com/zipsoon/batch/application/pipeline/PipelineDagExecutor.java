@@ -0,0 +1,150 @@
+package com.zipsoon.batch.application.pipeline;
+
+import com.zipsoon.batch.application.pipeline.step.PipelineStep;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 파이프라인 단계를 의존 관계 그래프(DAG)에 따라 실행하는 실행기
+ * 선행 단계가 모두 끝난 단계부터 실행하며, 서로 의존하지 않는 단계는 동시에 실행합니다.
+ * 선행 단계가 실패해도 후속 단계는 실행합니다. (단계 실패가 후속 단계에 영향을 주지 않는 기존 동작 유지)
+ * 실행 대상에 없는 선행 단계는 이미 끝난 것으로 간주하므로, 일부 단계만 실행할 수 있습니다.
+ */
+@Slf4j
+@Component
+public class PipelineDagExecutor {
+    private final int maxConcurrency;
+
+    public PipelineDagExecutor(@Value("${pipeline.max-concurrency:2}") int maxConcurrency) {
+        if (maxConcurrency <= 0) {
+            throw new IllegalArgumentException("pipeline.max-concurrency는 0보다 커야 합니다: " + maxConcurrency);
+        }
+        this.maxConcurrency = maxConcurrency;
+    }
+
+    /**
+     * 단계들을 의존 관계에 따라 실행하고, 모든 단계가 끝날 때까지 기다립니다.
+     *
+     * @param steps 실행할 단계 목록
+     * @return 단계별 실행 결과 (입력 순서)
+     * @throws IllegalStateException 단계 이름이 중복되거나 의존 관계에 순환이 있는 경우
+     */
+    public List<PipelineStepResult> execute(Collection<PipelineStep> steps) {
+        List<PipelineStep> ordered = topologicalOrder(steps);
+        if (ordered.isEmpty()) {
+            return List.of();
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(
+            Math.min(maxConcurrency, ordered.size()), threadFactory());
+        try {
+            long pipelineStartNanos = System.nanoTime();
+            Map<String, CompletableFuture<PipelineStepResult>> futures = new HashMap<>();
+
+            for (PipelineStep step : ordered) {
+                CompletableFuture<?>[] inputs = step.getDependencies().stream()
+                    .map(futures::get)
+                    .filter(Objects::nonNull)
+                    .toArray(CompletableFuture[]::new);
+
+                futures.put(step.getStepName(), CompletableFuture.allOf(inputs)
+                    .thenApplyAsync(ignored -> run(step, pipelineStartNanos), executor));
+            }
+
+            return steps.stream()
+                .map(step -> futures.get(step.getStepName()).join())
+                .toList();
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private PipelineStepResult run(PipelineStep step, long pipelineStartNanos) {
+        long startNanos = System.nanoTime();
+
+        // 단계 시작/종료 로깅은 각 단계 구현체에 위임
+        step.logStepStart();
+        boolean success;
+        try {
+            success = step.execute();
+        } catch (RuntimeException e) {
+            log.error("[BATCH:PIPELINE-ERR] {} 단계 실행 중 예외: {}", step.getStepName(), e.getMessage(), e);
+            success = false;
+        }
+        long executionTimeMs = toMillis(System.nanoTime() - startNanos);
+        step.logStepEnd(success, executionTimeMs);
+
+        return new PipelineStepResult(
+            step.getStepName(), success, toMillis(startNanos - pipelineStartNanos), executionTimeMs);
+    }
+
+    /**
+     * 선행 단계가 항상 앞에 오도록 정렬합니다. (같은 위상에서는 입력 순서 유지)
+     */
+    static List<PipelineStep> topologicalOrder(Collection<PipelineStep> steps) {
+        Map<String, PipelineStep> byName = new LinkedHashMap<>();
+        for (PipelineStep step : steps) {
+            if (byName.putIfAbsent(step.getStepName(), step) != null) {
+                throw new IllegalStateException("중복된 파이프라인 단계: " + step.getStepName());
+            }
+        }
+
+        Map<String, Integer> remainingInputs = new HashMap<>();
+        Map<String, List<String>> dependents = new HashMap<>();
+        for (PipelineStep step : byName.values()) {
+            int inputs = 0;
+            for (String dependency : step.getDependencies()) {
+                if (byName.containsKey(dependency)) {
+                    dependents.computeIfAbsent(dependency, key -> new ArrayList<>()).add(step.getStepName());
+                    inputs++;
+                }
+            }
+            remainingInputs.put(step.getStepName(), inputs);
+        }
+
+        List<PipelineStep> ordered = new ArrayList<>(byName.size());
+        Deque<String> ready = new ArrayDeque<>();
+        byName.keySet().stream()
+            .filter(name -> remainingInputs.get(name) == 0)
+            .forEach(ready::add);
+
+        while (!ready.isEmpty()) {
+            String name = ready.poll();
+            ordered.add(byName.get(name));
+            for (String dependent : dependents.getOrDefault(name, List.of())) {
+                if (remainingInputs.merge(dependent, -1, Integer::sum) == 0) {
+                    ready.add(dependent);
+                }
+            }
+        }
+
+        if (ordered.size() != byName.size()) {
+            List<String> cyclic = byName.keySet().stream()
+                .filter(name -> remainingInputs.get(name) > 0)
+                .toList();
+            throw new IllegalStateException("파이프라인 단계 의존 관계에 순환이 있습니다: " + cyclic);
+        }
+        return ordered;
+    }
+
+    private static ThreadFactory threadFactory() {
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "pipeline-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private static long toMillis(long nanos) {
+        return nanos / 1_000_000;
+    }
+}
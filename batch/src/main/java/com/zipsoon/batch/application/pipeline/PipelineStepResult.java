@@ -0,0 +1,23 @@
+package com.zipsoon.batch.application.pipeline;
+
+/**
+ * 파이프라인 단계 실행 결과
+ *
+ * @param stepName        단계 이름
+ * @param success         성공 여부
+ * @param startOffsetMs   파이프라인 시작 후 단계가 시작되기까지 걸린 시간(ms)
+ * @param executionTimeMs 단계 실행 시간(ms)
+ */
+public record PipelineStepResult(
+    String stepName,
+    boolean success,
+    long startOffsetMs,
+    long executionTimeMs
+) {
+    /**
+     * 파이프라인 시작 후 단계가 끝나기까지 걸린 시간(ms)
+     */
+    public long endOffsetMs() {
+        return startOffsetMs + executionTimeMs;
+    }
+}
@@ -14,7 +14,7 @@ import org.springframework.stereotype.Component;
 @Slf4j
 public class EstateCollectionStep implements PipelineStep {
     private final EstateJobRunner estateJobRunner;
-    private static final String STEP_NAME = "ESTATE_COLLECTION";
+    public static final String STEP_NAME = "ESTATE_COLLECTION";
     
     /**
      * 부동산 매물 수집 작업 실행
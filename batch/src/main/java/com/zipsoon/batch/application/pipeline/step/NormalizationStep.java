@@ -5,6 +5,8 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+
 /**
  * 점수 정규화 단계
  * 계산된 원시 점수를 0-10 사이의 값으로 정규화하는 작업 실행
@@ -14,7 +16,7 @@ import org.springframework.stereotype.Component;
 @Slf4j
 public class NormalizationStep implements PipelineStep {
     private final NormalizeJobRunner normalizeJobRunner;
-    private static final String STEP_NAME = "NORMALIZATION";
+    public static final String STEP_NAME = "NORMALIZATION";
     
     /**
      * 점수 정규화 작업 실행
@@ -38,4 +40,12 @@ public class NormalizationStep implements PipelineStep {
     public String getStepName() {
         return STEP_NAME;
     }
+
+    /**
+     * 원시 점수 계산이 끝난 뒤 실행
+     */
+    @Override
+    public List<String> getDependencies() {
+        return List.of(ScoreCalculationStep.STEP_NAME);
+    }
 }
\ No newline at end of file
@@ -2,9 +2,12 @@ package com.zipsoon.batch.application.pipeline.step;
 
 import org.slf4j.LoggerFactory;
 
+import java.util.List;
+
 /**
  * 데이터 파이프라인의 각 단계를 정의하는 인터페이스
  * 모든 파이프라인 단계(Step)는 이 인터페이스를 구현해야 함
+ * 단계 간 실행 순서는 {@link #getDependencies()}로 선언함
  */
 public interface PipelineStep {
     /**
@@ -18,6 +21,15 @@ public interface PipelineStep {
      * @return 파이프라인 단계 식별자
      */
     String getStepName();
+
+    /**
+     * 선행 단계 이름 반환
+     * 선행 단계가 모두 끝난 뒤에 실행되며, 선행 단계가 없는 단계끼리는 동시에 실행될 수 있음
+     * @return 선행 단계 이름 목록 (기본값: 없음)
+     */
+    default List<String> getDependencies() {
+        return List.of();
+    }
     
     /**
      * 단계 시작 시 로깅
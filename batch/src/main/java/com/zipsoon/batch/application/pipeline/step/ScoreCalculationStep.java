@@ -5,6 +5,8 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+
 /**
  * 매물별 점수 계산 단계
  * 부동산 매물과 소스 데이터를 기반으로 점수를 산출하는 작업 실행
@@ -14,7 +16,7 @@ import org.springframework.stereotype.Component;
 @Slf4j
 public class ScoreCalculationStep implements PipelineStep {
     private final ScoreJobRunner scoreJobRunner;
-    private static final String STEP_NAME = "SCORE_CALCULATION";
+    public static final String STEP_NAME = "SCORE_CALCULATION";
     
     /**
      * 점수 계산 작업 실행
@@ -38,4 +40,12 @@ public class ScoreCalculationStep implements PipelineStep {
     public String getStepName() {
         return STEP_NAME;
     }
+
+    /**
+     * 매물과 소스 데이터가 모두 수집된 뒤 실행
+     */
+    @Override
+    public List<String> getDependencies() {
+        return List.of(EstateCollectionStep.STEP_NAME, SourceCollectionStep.STEP_NAME);
+    }
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package com.zipsoon.batch.application.pipeline.step;
 
+import com.zipsoon.batch.infrastructure.processor.score.index.ParkSpatialIndex;
 import com.zipsoon.batch.job.source.SourceJobRunner;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -8,13 +9,15 @@ import org.springframework.stereotype.Component;
 /**
  * 점수 계산에 필요한 소스 데이터 수집 단계
  * 공원, 지하철역 등의 위치 데이터를 수집하는 작업 실행
+ * 수집이 끝나면 점수 계산기가 사용할 메모리 공간 인덱스를 다시 적재
  */
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class SourceCollectionStep implements PipelineStep {
     private final SourceJobRunner sourceJobRunner;
-    private static final String STEP_NAME = "SOURCE_COLLECTION";
+    private final ParkSpatialIndex parkSpatialIndex;
+    public static final String STEP_NAME = "SOURCE_COLLECTION";
     
     /**
      * 소스 데이터 수집 작업 실행
@@ -26,6 +29,7 @@ public class SourceCollectionStep implements PipelineStep {
         log.info("Executing source data collection step");
         try {
             sourceJobRunner.run();
+            parkSpatialIndex.refresh();
             log.info("Source data collection step completed successfully");
             return true;
         } catch (Exception e) {
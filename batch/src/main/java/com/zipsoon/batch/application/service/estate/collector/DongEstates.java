@@ -0,0 +1,18 @@
+package com.zipsoon.batch.application.service.estate.collector;
+
+import com.zipsoon.common.domain.Estate;
+
+import java.util.List;
+
+/**
+ * 법정동 하나의 수집 결과
+ * 마지막 페이지까지 수집을 마친 법정동만 만들어지며, 매물이 없어도 수집 완료로 기록됩니다.
+ *
+ * @param dongCode 법정동 코드
+ * @param estates 법정동의 모든 페이지에서 수집한 매물 목록
+ */
+public record DongEstates(
+    String dongCode,
+    List<Estate> estates
+) {
+}
@@ -1,11 +1,47 @@
 package com.zipsoon.batch.application.service.estate.collector;
 
-import com.zipsoon.common.domain.Estate;
-
-import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 public interface EstateCollector {
     String getPlatformName();
-    List<Estate> collect(String dongCode, int page);
-    boolean hasMoreData(String dongCode, int page);
+
+    /**
+     * 한 페이지의 매물과 다음 페이지 존재 여부를 한 번의 API 호출로 수집합니다.
+     *
+     * @param dongCode 법정동 코드
+     * @param page 페이지 번호 (1부터 시작)
+     * @return 수집 페이지
+     */
+    EstatePage collectPage(String dongCode, int page);
+
+    /**
+     * 법정동의 모든 페이지를 1페이지부터 차례로 수집하는 스트림을 반환합니다.
+     * 페이지는 소비할 때 하나씩 요청되며, 직전 응답의 다음 페이지 여부가 false이면 종료합니다.
+     *
+     * @param dongCode 법정동 코드
+     * @return 수집 페이지 스트림 (마지막 페이지 포함)
+     */
+    default Stream<EstatePage> pages(String dongCode) {
+        var spliterator = new Spliterators.AbstractSpliterator<EstatePage>(
+            Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL) {
+            private int nextPage = 1;
+            private boolean hasMore = true;
+
+            @Override
+            public boolean tryAdvance(Consumer<? super EstatePage> action) {
+                if (!hasMore) {
+                    return false;
+                }
+                EstatePage current = collectPage(dongCode, nextPage++);
+                hasMore = current.hasMore();
+                action.accept(current);
+                return true;
+            }
+        };
+        return StreamSupport.stream(spliterator, false);
+    }
 }
@@ -0,0 +1,23 @@
+package com.zipsoon.batch.application.service.estate.collector;
+
+import com.zipsoon.common.domain.Estate;
+
+import java.util.List;
+
+/**
+ * 매물 수집 페이지
+ * 플랫폼 API 응답 한 번으로 얻은 매물 목록과 다음 페이지 존재 여부를 함께 담습니다.
+ *
+ * @param page 페이지 번호 (1부터 시작)
+ * @param estates 페이지의 매물 목록
+ * @param hasMore 다음 페이지 존재 여부
+ */
+public record EstatePage(
+    int page,
+    List<Estate> estates,
+    boolean hasMore
+) {
+    public static EstatePage last(int page) {
+        return new EstatePage(page, List.of(), false);
+    }
+}
@@ -1,7 +1,19 @@
 package com.zipsoon.batch.application.service.normalize.normalizer;
 
-import java.util.List;
+import java.util.function.DoubleUnaryOperator;
 
+/**
+ * 원시 점수 정규화 방식
+ * 점수 유형의 전체 원시 점수로 통계(최솟값/최댓값, 분위수 등)를 한 번만 계산하고,
+ * 그 통계로 각 원시 점수를 변환하는 함수를 반환합니다.
+ */
 public interface ScoreNormalizer {
-    double normalize(double rawScore, List<Double> scores);
-}
\ No newline at end of file
+
+    /**
+     * 원시 점수 전체로 정규화 함수를 만듭니다.
+     *
+     * @param rawScores 점수 유형의 전체 원시 점수 (변경하지 않음)
+     * @return 원시 점수를 정규화 점수로 변환하는 함수
+     */
+    DoubleUnaryOperator fit(double[] rawScores);
+}
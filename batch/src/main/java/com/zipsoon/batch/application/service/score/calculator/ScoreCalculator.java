@@ -4,8 +4,50 @@ import com.zipsoon.batch.application.service.normalize.normalizer.ScoreNormalize
 import com.zipsoon.common.domain.Estate;
 import org.springframework.lang.Nullable;
 
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 public interface ScoreCalculator {
     Long getScoreId();
     @Nullable ScoreNormalizer getNormalizer();
     double calculateRawScore(Estate estate);
-}
\ No newline at end of file
+
+    /**
+     * 여러 매물의 원시 점수를 한 번에 계산합니다.
+     * 기본 구현은 매물마다 {@link #calculateRawScore(Estate)}를 호출하며,
+     * 데이터베이스 조회가 필요한 계산기는 집합 단위 조회로 재정의합니다.
+     *
+     * @param estates 점수를 계산할 매물 목록
+     * @return 매물 ID별 원시 점수
+     */
+    default Map<Long, Double> calculateRawScores(List<Estate> estates) {
+        Map<Long, Double> scores = new HashMap<>(estates.size() * 2);
+        for (Estate estate : estates) {
+            scores.put(estate.getId(), calculateRawScore(estate));
+        }
+        return scores;
+    }
+
+    /**
+     * 점수 계산에 사용하는 소스 데이터 이름 반환
+     * 소스 데이터가 다시 적재되면 이 계산기의 점수는 모든 매물에 대해 다시 계산됩니다.
+     *
+     * @return 소스 이름 목록 (기본값: 없음)
+     */
+    default List<String> getSourceNames() {
+        return List.of();
+    }
+
+    /**
+     * 매물의 점수 계산 입력 해시를 계산합니다.
+     * 기본 구현은 매물 좌표만 사용하며, 좌표 외의 매물 속성을 사용하는 계산기는 재정의해 해당 속성을 포함해야 합니다.
+     *
+     * @param estate        매물
+     * @param sourceVersion 소스 데이터 버전
+     * @return 입력 해시
+     */
+    default long inputHash(Estate estate, long sourceVersion) {
+        return ScoreInputHash.of(estate, sourceVersion);
+    }
+}
@@ -0,0 +1,41 @@
+package com.zipsoon.batch.application.service.score.calculator;
+
+import com.zipsoon.common.domain.Estate;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Geometry;
+
+/**
+ * 점수 계산 입력 해시
+ * 매물의 점수 계산에 쓰이는 값(좌표)과 소스 데이터 버전을 64비트 값 하나로 요약합니다.
+ * 저장된 해시와 같으면 입력이 바뀌지 않은 것이므로 점수를 다시 계산하지 않습니다.
+ */
+public final class ScoreInputHash {
+
+    private ScoreInputHash() {
+    }
+
+    /**
+     * 매물 좌표와 소스 데이터 버전으로 입력 해시를 계산합니다.
+     *
+     * @param estate        매물 (location 사용)
+     * @param sourceVersion 계산기가 사용하는 소스 데이터 버전
+     * @return 입력 해시
+     */
+    public static long of(Estate estate, long sourceVersion) {
+        long hash = mix(sourceVersion);
+        Geometry location = estate.getLocation();
+        if (location != null && !location.isEmpty()) {
+            Coordinate coordinate = location.getCoordinate();
+            hash = mix(hash ^ Double.doubleToLongBits(coordinate.getX()));
+            hash = mix(hash ^ Double.doubleToLongBits(coordinate.getY()));
+        }
+        return hash;
+    }
+
+    // SplitMix64 마무리 함수 (입력 비트가 결과 전체에 고르게 퍼지도록 섞음)
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+}
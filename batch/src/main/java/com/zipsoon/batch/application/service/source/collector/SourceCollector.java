@@ -1,6 +1,7 @@
 package com.zipsoon.batch.application.service.source.collector;
 
 public interface SourceCollector {
+    String getSourceName();
     void create();
     boolean wasUpdated();
     void collect();
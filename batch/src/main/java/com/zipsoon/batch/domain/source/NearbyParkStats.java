@@ -0,0 +1,16 @@
+package com.zipsoon.batch.domain.source;
+
+/**
+ * 매물 주변 공원 집계
+ * 반경 내 공원이 없으면 nearestDistance는 null, totalArea는 0입니다.
+ *
+ * @param estateId 매물 ID
+ * @param nearestDistance 가장 가까운 공원까지의 거리 (미터)
+ * @param totalArea 반경 내 공원 총 면적 (제곱미터)
+ */
+public record NearbyParkStats(Long estateId, Double nearestDistance, double totalArea) {
+
+    public boolean hasPark() {
+        return nearestDistance != null;
+    }
+}
@@ -0,0 +1,12 @@
+package com.zipsoon.batch.infrastructure.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.retry.annotation.EnableRetry;
+
+/**
+ * {@code @Retryable} 활성화 설정
+ */
+@Configuration
+@EnableRetry
+public class RetryConfig {
+}
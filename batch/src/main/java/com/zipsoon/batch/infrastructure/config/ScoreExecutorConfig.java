@@ -0,0 +1,32 @@
+package com.zipsoon.batch.infrastructure.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * 점수 계산기 실행 스레드 풀 설정
+ * 매물 묶음 하나에 등록된 여러 계산기를 동시에 실행할 때 사용하며, 공용 ForkJoinPool 대신 크기가 정해진 전용 풀을 씁니다.
+ * 청크를 처리하는 점수 계산 단계의 스레드 풀과 분리되어 있어, 청크 작업자가 계산기 결과를 기다리는 동안 풀이 고갈되지 않습니다.
+ */
+@Configuration
+@Slf4j
+public class ScoreExecutorConfig {
+    public static final String SCORE_CALCULATOR_EXECUTOR = "scoreCalculatorExecutor";
+
+    @Bean(name = SCORE_CALCULATOR_EXECUTOR)
+    public ThreadPoolTaskExecutor scoreCalculatorExecutor(
+        @Value("${score.calculator-concurrency:#{T(java.lang.Runtime).getRuntime().availableProcessors()}}") int concurrency
+    ) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(concurrency);
+        executor.setMaxPoolSize(concurrency);
+        executor.setThreadNamePrefix("score-calculator-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.initialize();
+        log.info("[BATCH:STEP-CONFIG] 점수 계산기 동시 실행 수: {}", concurrency);
+        return executor;
+    }
+}
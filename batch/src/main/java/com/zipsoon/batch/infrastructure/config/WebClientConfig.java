@@ -1,14 +1,40 @@
 package com.zipsoon.batch.infrastructure.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
+import java.net.http.HttpClient;
+import java.time.Duration;
+
+/**
+ * 외부 API 호출용 HTTP 클라이언트 설정
+ * JDK {@link HttpClient}는 호스트별 연결을 풀링하고 keep-alive로 재사용하므로,
+ * 요청마다 소켓을 새로 여는 기본 RestTemplate과 달리 수집 스레드가 연결을 공유합니다.
+ */
 @Configuration
 public class WebClientConfig {
 
     @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
+    public HttpClient httpClient(
+        @Value("${naver.land.http.connect-timeout:3s}") Duration connectTimeout
+    ) {
+        return HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_2)
+            .connectTimeout(connectTimeout)
+            .followRedirects(HttpClient.Redirect.NORMAL)
+            .build();
+    }
+
+    @Bean
+    public RestTemplate restTemplate(
+        HttpClient httpClient,
+        @Value("${naver.land.http.read-timeout:10s}") Duration readTimeout
+    ) {
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(readTimeout);
+        return new RestTemplate(requestFactory);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,118 @@
+package com.zipsoon.batch.infrastructure.copy;
+
+import com.zipsoon.common.domain.value.RawJson;
+import org.locationtech.jts.geom.Geometry;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+
+/**
+ * PostgreSQL {@code COPY ... WITH (FORMAT csv)} 입력 한 행
+ * 값은 추가한 순서대로 열에 대응하며, null은 따옴표 없는 빈 값(COPY CSV의 NULL)으로 기록합니다.
+ * 행마다 새로 만들지 않고 {@link #reset()} 후 재사용합니다.
+ */
+public final class CsvRecord {
+    private static final int DEFAULT_SRID = 4326;
+
+    private final StringBuilder line = new StringBuilder(512);
+    private boolean empty = true;
+
+    /**
+     * 숫자, 날짜/시간 등 따옴표가 필요 없는 값을 추가합니다.
+     */
+    public CsvRecord value(Object value) {
+        separate();
+        if (value != null) {
+            line.append(value);
+        }
+        return this;
+    }
+
+    /**
+     * 문자열 값을 추가합니다. 빈 문자열은 NULL과 구분되도록 항상 따옴표로 감쌉니다.
+     */
+    public CsvRecord text(String value) {
+        separate();
+        if (value != null) {
+            quote(value);
+        }
+        return this;
+    }
+
+    /**
+     * jsonb 열 값을 원본 문자열 그대로 추가합니다. (다시 직렬화하지 않음)
+     */
+    public CsvRecord json(RawJson value) {
+        return text(value != null ? value.text() : null);
+    }
+
+    /**
+     * varchar[] 열 값을 PostgreSQL 배열 리터럴({@code {"a","b"}})로 추가합니다.
+     */
+    public CsvRecord textArray(List<String> values) {
+        if (values == null) {
+            return text(null);
+        }
+        StringBuilder array = new StringBuilder(values.size() * 16 + 2).append('{');
+        for (int i = 0; i < values.size(); i++) {
+            if (i > 0) {
+                array.append(',');
+            }
+            String element = values.get(i);
+            if (element == null) {
+                array.append("NULL");
+            } else {
+                array.append('"')
+                    .append(element.replace("\\", "\\\\").replace("\"", "\\\""))
+                    .append('"');
+            }
+        }
+        return text(array.append('}').toString());
+    }
+
+    /**
+     * geometry 열 값을 EWKT({@code SRID=4326;POINT(x y)})로 추가합니다.
+     * 좌표계가 지정되지 않은 값은 WGS84(4326)로 기록합니다.
+     */
+    public CsvRecord geometry(Geometry value) {
+        if (value == null) {
+            return text(null);
+        }
+        int srid = value.getSRID() != 0 ? value.getSRID() : DEFAULT_SRID;
+        return text("SRID=" + srid + ";" + value.toText());
+    }
+
+    public void reset() {
+        line.setLength(0);
+        empty = true;
+    }
+
+    public void writeTo(Writer writer) throws IOException {
+        writer.append(line).append('\n');
+    }
+
+    @Override
+    public String toString() {
+        return line.toString();
+    }
+
+    private void separate() {
+        if (!empty) {
+            line.append(',');
+        }
+        empty = false;
+    }
+
+    private void quote(String value) {
+        line.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') {
+                line.append('"');
+            }
+            line.append(c);
+        }
+        line.append('"');
+    }
+}
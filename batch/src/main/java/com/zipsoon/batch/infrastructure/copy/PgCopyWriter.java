@@ -0,0 +1,89 @@
+package com.zipsoon.batch.infrastructure.copy;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.copy.CopyIn;
+import org.postgresql.copy.CopyManager;
+import org.postgresql.copy.PGCopyOutputStream;
+import org.postgresql.core.BaseConnection;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.jdbc.support.SQLStateSQLExceptionTranslator;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.BiConsumer;
+
+/**
+ * PostgreSQL COPY 기반 대량 적재
+ * 행을 CSV로 변환해 {@code COPY ... FROM STDIN}으로 스트리밍하므로, 바인드 파라미터 한도(65535)나
+ * 문장 크기와 무관하게 행 수에 비례하는 비용으로 적재합니다.
+ * 스프링이 관리하는 트랜잭션 Connection을 사용하므로, 같은 트랜잭션에서 만든 임시 스테이징 테이블에 적재한 뒤
+ * MyBatis 매퍼로 {@code INSERT ... SELECT ... ON CONFLICT}를 실행하는 방식으로 사용합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PgCopyWriter {
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final DataSource dataSource;
+
+    /**
+     * 행 목록을 테이블에 COPY로 적재합니다.
+     *
+     * @param tableName 대상 테이블
+     * @param columns 적재할 열 (rowMapper가 값을 추가하는 순서)
+     * @param rows 적재할 행
+     * @param rowMapper 행을 CSV 레코드로 변환하는 함수
+     * @return 적재된 행 수
+     */
+    public <T> long copy(String tableName, List<String> columns, Collection<? extends T> rows,
+                         BiConsumer<? super T, CsvRecord> rowMapper) {
+        String sql = "COPY " + tableName + " (" + String.join(", ", columns) + ") FROM STDIN WITH (FORMAT csv)";
+
+        // 스프링이 관리하는 트랜잭션 Connection 획득
+        Connection conn = DataSourceUtils.getConnection(dataSource);
+        try {
+            CopyManager copyManager = new CopyManager(conn.unwrap(BaseConnection.class));
+            CopyIn copyIn = copyManager.copyIn(sql);
+            try {
+                Writer writer = new BufferedWriter(new OutputStreamWriter(
+                    new PGCopyOutputStream(copyIn, BUFFER_SIZE), StandardCharsets.UTF_8), BUFFER_SIZE);
+                CsvRecord record = new CsvRecord();
+                for (T row : rows) {
+                    record.reset();
+                    rowMapper.accept(row, record);
+                    record.writeTo(writer);
+                }
+                writer.flush();
+
+                long rowsCopied = copyIn.endCopy();
+                log.debug("테이블 {}에 {}개 행 COPY 완료", tableName, rowsCopied);
+                return rowsCopied;
+            } finally {
+                if (copyIn.isActive()) {
+                    copyIn.cancelCopy();
+                }
+            }
+        } catch (SQLException e) {
+            log.error("테이블 {}에 데이터 COPY 중 오류 발생: {}", tableName, e.getMessage());
+            throw new SQLStateSQLExceptionTranslator().translate("COPY " + tableName, sql, e);
+        } catch (IOException e) {
+            log.error("테이블 {}에 데이터 COPY 중 오류 발생: {}", tableName, e.getMessage());
+            throw new UncheckedIOException(e);
+        } finally {
+            // 스프링이 관리하는 Connection 반환 (실제로 닫지 않음)
+            DataSourceUtils.releaseConnection(conn, dataSource);
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.zipsoon.batch.infrastructure.external.naver;
+
+import lombok.Getter;
+
+/**
+ * 재시도를 모두 소진해도 네이버 부동산 API 페이지를 가져오지 못한 경우의 예외
+ * 해당 법정동은 끝까지 수집되지 않았으므로 수집 완료로 기록하지 않고 건너뜁니다.
+ */
+@Getter
+public class NaverLandApiException extends RuntimeException {
+    private final String cortarNo;
+    private final int page;
+
+    public NaverLandApiException(String cortarNo, int page, Throwable cause) {
+        super("네이버 API 요청 실패 - 법정동 코드: " + cortarNo + ", 페이지: " + page, cause);
+        this.cortarNo = cortarNo;
+        this.page = page;
+    }
+}
@@ -3,27 +3,34 @@ package com.zipsoon.batch.infrastructure.external.naver;
 import com.zipsoon.batch.infrastructure.external.naver.vo.NaverLandResponseVO;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.batch.core.step.skip.SkipException;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.ResponseEntity;
 import org.springframework.retry.annotation.Backoff;
+import org.springframework.retry.annotation.Recover;
 import org.springframework.retry.annotation.Retryable;
 import org.springframework.stereotype.Component;
-import org.springframework.web.client.HttpServerErrorException;
-import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class NaverLandClient {
+    private static final String RETRY_AFTER = "Retry-After";
 
     private final RestTemplate restTemplate;
+    private final NaverLandRateLimiter rateLimiter;
 
     @Value("${naver.land.base-url}")
     private String baseUrl;
@@ -31,42 +38,98 @@ public class NaverLandClient {
     @Value("${naver.land.auth-token}")
     private String authToken;
 
+    @Value("${naver.land.retry.max-retry-after-ms:60000}")
+    private long maxRetryAfterMs = 60000;
+
+    /**
+     * 법정동의 매물 목록 한 페이지를 조회합니다.
+     * 네트워크 오류, 타임아웃, 5xx 응답은 지수 백오프(무작위 지연 포함)로 재시도하고,
+     * 429 응답은 {@code Retry-After}만큼 모든 수집 스레드의 요청을 멈춘 뒤 재시도합니다. 그 밖의 4xx 응답은 재시도하지 않습니다.
+     * 재시도가 모두 실패하면 {@link #recover}가 {@link NaverLandApiException}을 던집니다.
+     */
     @Retryable(
         retryFor = {
-            // Allow
-            RestClientException.class,          // network
-            HttpServerErrorException.class,     // 5xx
-            ResourceAccessException.class       // timeout
-
-            // Ignore
-//            HttpClientErrorException          // 400~499
-//            IllegalArgumentException          // bad request
+            RestClientException.class           // network, 5xx, timeout, 429
+        },
+        noRetryFor = {
+            HttpClientErrorException.class      // 400~499
         },
-            backoff = @Backoff(delay = 2000)
+        maxAttemptsExpression = "${naver.land.retry.max-attempts:3}",
+        backoff = @Backoff(
+            delayExpression = "${naver.land.retry.delay-ms:1000}",
+            maxDelayExpression = "${naver.land.retry.max-delay-ms:10000}",
+            multiplier = 2,
+            random = true
+        )
     )
-    public NaverLandResponseVO get(String cortarNo, int page) throws SkipException {
+    public NaverLandResponseVO get(String cortarNo, int page) {
+        rateLimiter.acquire();
+        ResponseEntity<NaverLandResponseVO> response;
         try {
-            ResponseEntity<NaverLandResponseVO> response = restTemplate.exchange(
+            response = restTemplate.exchange(
                 buildUrl(cortarNo, page),
                 HttpMethod.GET,
                 buildHttpEntity(),
                 NaverLandResponseVO.class
             );
+        } catch (HttpClientErrorException.TooManyRequests e) {
+            Duration retryAfter = retryAfter(e.getResponseHeaders());
+            log.warn("법정동 코드 {}, 페이지 {} 요청 제한(429) - {}ms 후 재시도", cortarNo, page, retryAfter.toMillis());
+            rateLimiter.pause(retryAfter);
+            // 4xx 중 429만 재시도 대상이 되도록 재시도 가능한 예외로 바꿔 던짐
+            throw new RestClientException("네이버 API 요청 제한(429)", e);
+        }
 
-            if (!response.getStatusCode().is2xxSuccessful()) {
-                throw new RestClientException("네이버 API에서 데이터를 가져오지 못했습니다");
-            }
-            
-            NaverLandResponseVO responseBody = response.getBody();
-            if (responseBody.articleList().length == 0) {
-                log.info("법정동 코드 {}, 페이지 {}에 대한 네이버 API 응답에 매물이 없습니다", cortarNo, page);
+        if (!response.getStatusCode().is2xxSuccessful()) {
+            throw new RestClientException("네이버 API에서 데이터를 가져오지 못했습니다");
+        }
+
+        NaverLandResponseVO responseBody = response.getBody();
+        if (responseBody == null || responseBody.articleList() == null || responseBody.articleList().length == 0) {
+            log.info("법정동 코드 {}, 페이지 {}에 대한 네이버 API 응답에 매물이 없습니다", cortarNo, page);
+        }
+
+        return responseBody;
+    }
+
+    /**
+     * 재시도가 모두 실패한 경우 실패를 알리는 예외를 던집니다.
+     * 빈 응답으로 바꾸면 마지막 페이지와 구분되지 않아, 수집하지 못한 매물이 내려간 것으로 처리되기 때문입니다.
+     */
+    @Recover
+    public NaverLandResponseVO recover(RestClientException e, String cortarNo, int page) {
+        log.error("법정동 코드: {}, 페이지: {}에 대한 API 오류 (재시도 소진)", cortarNo, page, e);
+        throw new NaverLandApiException(cortarNo, page, e);
+    }
+
+    /**
+     * {@code Retry-After} 헤더(초 또는 HTTP 날짜)를 대기 시간으로 바꿉니다.
+     * 헤더가 없거나 해석할 수 없으면 0을 반환해 재시도 백오프만 적용되며, 최대 {@code max-retry-after-ms}까지만 기다립니다.
+     */
+    private Duration retryAfter(HttpHeaders headers) {
+        String value = headers != null ? headers.getFirst(RETRY_AFTER) : null;
+        if (value == null || value.isBlank()) {
+            return Duration.ZERO;
+        }
+
+        Duration delay;
+        try {
+            delay = Duration.ofSeconds(Long.parseLong(value.trim()));
+        } catch (NumberFormatException e) {
+            try {
+                ZonedDateTime retryAt = ZonedDateTime.parse(value.trim(), DateTimeFormatter.RFC_1123_DATE_TIME);
+                delay = Duration.between(Instant.now(), retryAt.toInstant());
+            } catch (DateTimeParseException ex) {
+                log.warn("해석할 수 없는 Retry-After 헤더: {}", value);
+                return Duration.ZERO;
             }
+        }
 
-            return responseBody;
-        } catch (RestClientException e) {
-            log.error("법정동 코드: {}, 페이지: {}에 대한 API 오류", cortarNo, page, e);
-            return new NaverLandResponseVO(false, cortarNo, new NaverLandResponseVO.NaverLandResponseArticle[0]);
+        if (delay.isNegative()) {
+            return Duration.ZERO;
         }
+        Duration maxDelay = Duration.ofMillis(maxRetryAfterMs);
+        return delay.compareTo(maxDelay) > 0 ? maxDelay : delay;
     }
 
     private String buildUrl(String cortarNo, int page) {
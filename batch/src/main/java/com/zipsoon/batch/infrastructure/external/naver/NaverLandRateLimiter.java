@@ -0,0 +1,110 @@
+package com.zipsoon.batch.infrastructure.external.naver;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 네이버 부동산 API 요청 속도 제한기 (토큰 버킷)
+ * 모든 수집 스레드가 공유하며, 초당 요청 수와 순간 최대 요청 수(버킷 크기)를 제한합니다.
+ * 토큰이 부족하면 다음 토큰 시점을 예약한 뒤 잠금 밖에서 대기하므로, 대기 중인 스레드가 다른 스레드를 막지 않습니다.
+ * 시간 측정과 대기는 {@link Ticker}로 분리되어 있어 테스트에서는 가짜 시간으로 토큰 계산을 검증할 수 있습니다.
+ */
+@Slf4j
+@Component
+public class NaverLandRateLimiter {
+    private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final double permitsPerNano;
+    private final double capacity;
+    private final Ticker ticker;
+
+    private double tokens;
+    private long lastRefillNanos;
+
+    /**
+     * 시간 측정과 대기 방법
+     */
+    public interface Ticker {
+        Ticker SYSTEM = new Ticker() {
+            @Override
+            public long nanoTime() {
+                return System.nanoTime();
+            }
+
+            @Override
+            public void sleepNanos(long nanos) throws InterruptedException {
+                TimeUnit.NANOSECONDS.sleep(nanos);
+            }
+        };
+
+        long nanoTime();
+
+        void sleepNanos(long nanos) throws InterruptedException;
+    }
+
+    @Autowired
+    public NaverLandRateLimiter(
+        @Value("${naver.land.rate-limit.permits-per-second:5}") double permitsPerSecond,
+        @Value("${naver.land.rate-limit.burst:5}") int burst
+    ) {
+        this(permitsPerSecond, burst, Ticker.SYSTEM);
+    }
+
+    public NaverLandRateLimiter(double permitsPerSecond, int burst, Ticker ticker) {
+        if (permitsPerSecond <= 0 || burst <= 0) {
+            throw new IllegalArgumentException(
+                "요청 속도 제한 설정은 0보다 커야 합니다: permitsPerSecond=" + permitsPerSecond + ", burst=" + burst);
+        }
+        this.permitsPerNano = permitsPerSecond / NANOS_PER_SECOND;
+        this.capacity = burst;
+        this.ticker = ticker;
+        this.tokens = burst;
+        this.lastRefillNanos = ticker.nanoTime();
+    }
+
+    /**
+     * 요청 한 건을 보낼 수 있을 때까지 대기합니다.
+     *
+     * @throws IllegalStateException 대기 중 스레드가 인터럽트된 경우
+     */
+    public void acquire() {
+        long waitNanos;
+        synchronized (this) {
+            refill();
+            tokens -= 1;
+            waitNanos = tokens >= 0 ? 0 : (long) Math.ceil(-tokens / permitsPerNano);
+        }
+
+        if (waitNanos > 0) {
+            try {
+                ticker.sleepNanos(waitNanos);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("네이버 API 요청 대기 중 인터럽트되었습니다", e);
+            }
+        }
+    }
+
+    /**
+     * 서버가 요청 제한(429)을 알려온 경우, 모든 스레드의 다음 요청을 주어진 시간 뒤로 미룹니다.
+     * 이미 더 늦게 예약된 요청이 있으면 그대로 둡니다.
+     *
+     * @param delay 다음 요청까지 기다릴 시간
+     */
+    public synchronized void pause(Duration delay) {
+        refill();
+        // 다음 acquire가 토큰 1개를 쓰고 정확히 delay만큼 기다리도록 토큰을 미리 당겨 씀
+        tokens = Math.min(tokens, 1 - delay.toNanos() * permitsPerNano);
+    }
+
+    private void refill() {
+        long now = ticker.nanoTime();
+        tokens = Math.min(capacity, tokens + (now - lastRefillNanos) * permitsPerNano);
+        lastRefillNanos = now;
+    }
+}
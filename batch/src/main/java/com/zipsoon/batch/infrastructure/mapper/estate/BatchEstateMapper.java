@@ -8,6 +8,16 @@ import java.util.List;
 
 @Mapper
 public interface BatchEstateMapper {
-    void insertAll(@Param("list") List<Estate> estates);
-    List<Estate> selectAll();
-}
\ No newline at end of file
+    void createStaging();
+    void truncateStaging();
+    void insertChangedIntoSnapshot();
+    void upsertFromStaging();
+    void insertSeenFromStaging();
+    void insertCollectedDongs(@Param("dongCodes") List<String> dongCodes);
+    void truncateSeen();
+    long countSeen();
+    int tombstoneUnseen();
+    void deleteScoresOfDeleted();
+    void deleteScoreSummariesOfDeleted();
+    List<Estate> selectScoringPage(@Param("afterId") long afterId, @Param("limit") int limit);
+}
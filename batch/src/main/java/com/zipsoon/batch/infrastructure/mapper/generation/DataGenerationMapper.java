@@ -0,0 +1,11 @@
+package com.zipsoon.batch.infrastructure.mapper.generation;
+
+import org.apache.ibatis.annotations.Mapper;
+
+@Mapper
+public interface DataGenerationMapper {
+    /**
+     * 새 데이터 세대를 기록하고 세대 번호를 반환합니다.
+     */
+    long insertGeneration();
+}
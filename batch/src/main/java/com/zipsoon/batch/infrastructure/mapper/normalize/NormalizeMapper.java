@@ -4,18 +4,33 @@ import com.zipsoon.common.domain.EstateScore;
 import com.zipsoon.common.domain.score.ScoreType;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.session.ResultHandler;
 
+import java.math.BigDecimal;
 import java.util.List;
-import java.util.Map;
 
 @Mapper
 public interface NormalizeMapper {
-    List<ScoreType> selectAllActiveScoreTypes();
+    List<ScoreType> selectScoreTypesPendingNormalization();
 
-    List<EstateScore> selectByScoreTypeId(@Param("scoreTypeId") Long scoreTypeId);
+    int countScoreTypesPendingNormalization();
 
-    void updateNormalizedScoresByScoreTypeIdAndIds(
+    int clearPendingNormalization();
+
+    void selectRawScoresByScoreTypeId(@Param("scoreTypeId") Long scoreTypeId, ResultHandler<Double> handler);
+
+    List<EstateScore> selectPageByScoreTypeId(
         @Param("scoreTypeId") Long scoreTypeId,
-        @Param("updates") Map<Long, Double> updates
+        @Param("afterId") long afterId,
+        @Param("limit") int limit
+    );
+
+    int updateNormalizedScores(
+        @Param("ids") Long[] ids,
+        @Param("scores") BigDecimal[] scores
     );
+
+    int deleteAllScoreSummaries();
+
+    int insertScoreSummaries();
 }
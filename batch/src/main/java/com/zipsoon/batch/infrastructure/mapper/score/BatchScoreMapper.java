@@ -8,6 +8,10 @@ import java.util.List;
 
 @Mapper
 public interface BatchScoreMapper {
-    void insertAll(@Param("list") List<EstateScore> scores);
-    void insertIntoScoreSnapshot();
-}
\ No newline at end of file
+    void createStaging();
+    void truncateStaging();
+    List<EstateScore> selectInputHashes(@Param("scoreTypeId") Long scoreTypeId, @Param("estateIds") Long[] estateIds);
+    void markPendingNormalization();
+    void insertReplacedIntoScoreSnapshot();
+    void upsertFromStaging();
+}
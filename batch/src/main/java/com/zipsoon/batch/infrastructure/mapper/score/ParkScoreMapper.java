@@ -1,5 +1,6 @@
 package com.zipsoon.batch.infrastructure.mapper.score;
 
+import com.zipsoon.batch.domain.source.NearbyParkStats;
 import com.zipsoon.batch.domain.source.Park;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
@@ -10,4 +11,8 @@ import java.util.List;
 @Mapper
 public interface ParkScoreMapper {
     List<Park> selectParksWithin(@Param("location") Point location, @Param("radius") double radiusMeters);
-}
\ No newline at end of file
+
+    List<Park> selectAllParks();
+
+    List<NearbyParkStats> selectNearbyParkStats(@Param("estateIds") Long[] estateIds, @Param("radius") double radiusMeters);
+}
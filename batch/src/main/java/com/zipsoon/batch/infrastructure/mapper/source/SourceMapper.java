@@ -1,7 +1,9 @@
 package com.zipsoon.batch.infrastructure.mapper.source;
 
+import org.apache.ibatis.annotations.Insert;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.annotations.Select;
 import org.apache.ibatis.annotations.Update;
 
 @Mapper
@@ -9,12 +11,20 @@ public interface SourceMapper {
     @Update("${sql}")
     void executeDDL(@Param("sql") String sql);
 
-    @Update("ALTER TABLE ${tableName} ADD COLUMN IF NOT EXISTS location geometry(Point, 4326)")
-    void addLocationColumn(@Param("tableName") String tableName);
+    @Update("CREATE INDEX IF NOT EXISTS ${tableName}_location_geog_idx ON ${tableName} USING GIST ((location::geography))")
+    void createGeographyIndex(@Param("tableName") String tableName);
 
-    @Update("UPDATE ${tableName} SET location = ST_SetSRID(ST_Point(경도, 위도), 4326) WHERE 위도 IS NOT NULL AND 경도 IS NOT NULL")
-    int updateLocationCoordinates(@Param("tableName") String tableName);
+    @Update("ANALYZE ${tableName}")
+    void analyze(@Param("tableName") String tableName);
 
     @Update("DROP TABLE IF EXISTS ${tableName}")
     void dropTable(@Param("tableName") String tableName);
+
+    @Insert("INSERT INTO source_version (source_name, version, updated_at) VALUES (#{sourceName}, 1, CURRENT_TIMESTAMP) " +
+            "ON CONFLICT (source_name) DO UPDATE SET version = source_version.version + 1, updated_at = CURRENT_TIMESTAMP")
+    void increaseVersion(@Param("sourceName") String sourceName);
+
+    @Select("SELECT COALESCE(SUM(version), 0) FROM source_version " +
+            "WHERE source_name = ANY(#{sourceNames, typeHandler=org.apache.ibatis.type.ArrayTypeHandler}::varchar[])")
+    long selectVersionSum(@Param("sourceNames") String[] sourceNames);
 }
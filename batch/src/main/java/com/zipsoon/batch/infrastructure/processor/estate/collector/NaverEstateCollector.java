@@ -1,6 +1,7 @@
 package com.zipsoon.batch.infrastructure.processor.estate.collector;
 
 import com.zipsoon.batch.application.service.estate.collector.EstateCollector;
+import com.zipsoon.batch.application.service.estate.collector.EstatePage;
 import com.zipsoon.batch.infrastructure.external.naver.NaverLandClient;
 import com.zipsoon.batch.infrastructure.external.naver.util.NaverLandResponseMatcher;
 import com.zipsoon.batch.infrastructure.external.naver.vo.NaverLandResponseVO;
@@ -26,23 +27,18 @@ public class NaverEstateCollector implements EstateCollector {
     }
 
     @Override
-    public List<Estate> collect(String dongCode, int page) {
+    public EstatePage collectPage(String dongCode, int page) {
         NaverLandResponseVO response = naverLandClient.get(dongCode, page);
 
         if (response == null || response.articleList() == null) {
             log.warn("No data received from Naver for dongCode: {}, page: {}", dongCode, page);
-            return List.of();
+            return EstatePage.last(page);
         }
 
-        return Arrays.stream(response.articleList())
+        List<Estate> estates = Arrays.stream(response.articleList())
                     .map(article -> naverLandResponseMatcher.toEstate(article, dongCode))
                     .toList();
-    }
-
-    @Override
-    public boolean hasMoreData(String dongCode, int page) {
-        NaverLandResponseVO response = naverLandClient.get(dongCode, page);
-        return response != null && response.isMoreData();
+        return new EstatePage(page, estates, response.isMoreData());
     }
 
 }
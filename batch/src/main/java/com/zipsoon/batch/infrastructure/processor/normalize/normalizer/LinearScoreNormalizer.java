@@ -2,27 +2,38 @@ package com.zipsoon.batch.infrastructure.processor.normalize.normalizer;
 
 import com.zipsoon.batch.application.service.normalize.normalizer.ScoreNormalizer;
 
-import java.util.List;
+import java.util.function.DoubleUnaryOperator;
 
 public class LinearScoreNormalizer implements ScoreNormalizer {
     private static final double BASE_SCORE = 1.0; // 최소 보장 점수
     private static final double MAX_SCORE = 10.0;
+    private static final double SAME_SCORE = 5.0; // 모든 점수가 같을 때
 
+    /**
+     * 최솟값과 최댓값을 한 번에 구해 선형 정규화 함수를 반환합니다.
+     */
     @Override
-    public double normalize(double rawScore, List<Double> scores) {
-        double min = scores.stream().min(Double::compareTo).orElse(0.0);
-        double max = scores.stream().max(Double::compareTo).orElse(10.0);
+    public DoubleUnaryOperator fit(double[] rawScores) {
+        double min = rawScores.length > 0 ? Double.POSITIVE_INFINITY : 0.0;
+        double max = rawScores.length > 0 ? Double.NEGATIVE_INFINITY : 10.0;
+        for (double rawScore : rawScores) {
+            if (rawScore < min) {
+                min = rawScore;
+            }
+            if (rawScore > max) {
+                max = rawScore;
+            }
+        }
 
         if (min == max) {
-            return 5.0;
+            return rawScore -> SAME_SCORE;
         }
 
-        double range = MAX_SCORE - BASE_SCORE;
+        double lower = min;
+        double scale = (MAX_SCORE - BASE_SCORE) / (max - min);
 
         // 정규화 공식: BASE_SCORE + (value-min)/(max-min) * (MAX_SCORE-BASE_SCORE)
-        double normalized = BASE_SCORE + ((rawScore - min) / (max - min)) * range;
-
         // 최소값은 BASE_SCORE, 최대값은 MAX_SCORE로 제한
-        return Math.min(Math.max(normalized, BASE_SCORE), MAX_SCORE);
+        return rawScore -> Math.min(Math.max(BASE_SCORE + (rawScore - lower) * scale, BASE_SCORE), MAX_SCORE);
     }
-}
\ No newline at end of file
+}
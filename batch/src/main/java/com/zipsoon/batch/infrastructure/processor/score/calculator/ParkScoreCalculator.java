@@ -1,17 +1,24 @@
 package com.zipsoon.batch.infrastructure.processor.score.calculator;
 
 import com.zipsoon.batch.application.service.score.calculator.ScoreCalculator;
+import com.zipsoon.batch.domain.source.NearbyParkStats;
 import com.zipsoon.batch.domain.source.Park;
 import com.zipsoon.batch.infrastructure.processor.normalize.normalizer.LinearScoreNormalizer;
+import com.zipsoon.batch.infrastructure.processor.score.index.GeoPointIndex;
+import com.zipsoon.batch.infrastructure.processor.score.index.ParkSpatialIndex;
+import com.zipsoon.batch.infrastructure.processor.source.collector.ParkSourceCollector;
 import com.zipsoon.batch.application.service.normalize.normalizer.ScoreNormalizer;
 import com.zipsoon.batch.infrastructure.repository.score.ParkScoreRepository;
 import com.zipsoon.common.domain.Estate;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.locationtech.jts.geom.Point;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * 공원 접근성 점수 계산기
@@ -24,15 +31,37 @@ import java.util.List;
  * </ul>
  * 
  * <p>최종 원시 점수는 0~10 사이의 값으로, 이후 정규화 단계를 거칩니다.</p>
+ *
+ * <p>기본적으로 공원 전체를 메모리 공간 인덱스({@link ParkSpatialIndex})에 한 번 적재해 반경 검색하므로
+ * 점수 계산에 데이터베이스 조회가 없습니다. {@code score.park.in-memory-index=false}이면
+ * {@link #calculateRawScores(List)}가 매물 묶음의 주변 공원 거리와 면적을 PostGIS에서 한 번에 집계합니다.</p>
  */
 
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class ParkScoreCalculator implements ScoreCalculator {
     private final ParkScoreRepository parkScoreRepository;
+    private final ParkSpatialIndex parkSpatialIndex;
     private static final Long SCORE_TYPE_PRIMARY_KEY = 1L;
     private static final double WALKING_DISTANCE = 600.0; // 도보 10분
+    private static final ScoreNormalizer NORMALIZER = new LinearScoreNormalizer();
+
+    /**
+     * 데이터베이스 조회로 점수를 계산하는 계산기 생성
+     */
+    public ParkScoreCalculator(ParkScoreRepository parkScoreRepository) {
+        this(parkScoreRepository, null, false);
+    }
+
+    @Autowired
+    public ParkScoreCalculator(
+        ParkScoreRepository parkScoreRepository,
+        ParkSpatialIndex parkSpatialIndex,
+        @Value("${score.park.in-memory-index:true}") boolean useInMemoryIndex
+    ) {
+        this.parkScoreRepository = parkScoreRepository;
+        this.parkSpatialIndex = useInMemoryIndex ? parkSpatialIndex : null;
+    }
 
     /**
      * 공원 점수 유형 ID 반환
@@ -49,7 +78,15 @@ public class ParkScoreCalculator implements ScoreCalculator {
      */
     @Override
     public ScoreNormalizer getNormalizer() {
-        return new LinearScoreNormalizer();
+        return NORMALIZER;
+    }
+
+    /**
+     * 공원 소스 데이터(parks) 사용
+     */
+    @Override
+    public List<String> getSourceNames() {
+        return List.of(ParkSourceCollector.TABLE_NAME);
     }
 
     /**
@@ -60,6 +97,10 @@ public class ParkScoreCalculator implements ScoreCalculator {
      */
     @Override
     public double calculateRawScore(Estate estate) {
+        if (parkSpatialIndex != null) {
+            return calculateWithIndex(parkSpatialIndex.get(), estate);
+        }
+
         List<Park> nearbyParks = parkScoreRepository.findParksWithin(
             (Point) estate.getLocation(),
             WALKING_DISTANCE
@@ -70,17 +111,69 @@ public class ParkScoreCalculator implements ScoreCalculator {
             return 0;
         }
 
-        // 1. 가장 가까운 공원까지의 거리 점수 (40%)
         double nearestDistance = nearbyParks.stream()
             .mapToDouble(park -> calculateDistance((Point) estate.getLocation(), park.getLocation()))
             .min()
             .orElse(WALKING_DISTANCE);
-        double distanceScore = Math.max(0, (1 - nearestDistance / WALKING_DISTANCE) * 4);
-
-        // 2. 총 면적 점수 (60%)
         double totalArea = nearbyParks.stream()
             .mapToDouble(Park::getArea)
             .sum();
+
+        return score(estate, nearestDistance, totalArea);
+    }
+
+    /**
+     * 매물 묶음의 공원 접근성 원시 점수를 계산
+     * 주변 공원 집계를 매물마다 조회하지 않고 한 번의 공간 조인으로 가져옵니다.
+     *
+     * @param estates 점수를 계산할 매물 목록
+     * @return 매물 ID별 원시 점수 (0~10 사이 값)
+     */
+    @Override
+    public Map<Long, Double> calculateRawScores(List<Estate> estates) {
+        if (parkSpatialIndex != null) {
+            GeoPointIndex index = parkSpatialIndex.get();
+            Map<Long, Double> scores = new HashMap<>(estates.size() * 2);
+            for (Estate estate : estates) {
+                scores.put(estate.getId(), calculateWithIndex(index, estate));
+            }
+            return scores;
+        }
+
+        List<Long> estateIds = estates.stream().map(Estate::getId).toList();
+        Map<Long, NearbyParkStats> statsByEstateId = new HashMap<>(estateIds.size() * 2);
+        for (NearbyParkStats stats : parkScoreRepository.findNearbyParkStats(estateIds, WALKING_DISTANCE)) {
+            statsByEstateId.put(stats.estateId(), stats);
+        }
+
+        Map<Long, Double> scores = new HashMap<>(estates.size() * 2);
+        for (Estate estate : estates) {
+            NearbyParkStats stats = statsByEstateId.get(estate.getId());
+            if (stats == null || !stats.hasPark()) {
+                log.debug("estate {}({}):: no parks found =====> totalScore: 0", estate.getEstateName(), estate.getLocation());
+                scores.put(estate.getId(), 0.0);
+                continue;
+            }
+            scores.put(estate.getId(), score(estate, stats.nearestDistance(), stats.totalArea()));
+        }
+        return scores;
+    }
+
+    private double calculateWithIndex(GeoPointIndex index, Estate estate) {
+        Point location = (Point) estate.getLocation();
+        GeoPointIndex.RadiusStats stats = index.within(location.getX(), location.getY(), WALKING_DISTANCE);
+        if (!stats.hasPoint()) {
+            log.debug("estate {}({}):: no parks found =====> totalScore: 0", estate.getEstateName(), estate.getLocation());
+            return 0;
+        }
+        return score(estate, stats.nearestDistance(), stats.weightSum());
+    }
+
+    private double score(Estate estate, double nearestDistance, double totalArea) {
+        // 1. 가장 가까운 공원까지의 거리 점수 (40%)
+        double distanceScore = Math.max(0, (1 - nearestDistance / WALKING_DISTANCE) * 4);
+
+        // 2. 총 면적 점수 (60%)
         double areaScore = Math.min(totalArea / 50000.0, 1.0) * 6;
 
         double totalScore = distanceScore + areaScore;
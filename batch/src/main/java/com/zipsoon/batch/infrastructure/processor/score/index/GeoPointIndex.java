@@ -0,0 +1,103 @@
+package com.zipsoon.batch.infrastructure.processor.score.index;
+
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.index.strtree.STRtree;
+
+/**
+ * WGS84 좌표 지점(POI)의 메모리 공간 인덱스
+ * 좌표와 가중치(면적 등)는 기본형 배열로 보관하고, STRtree에는 배열 인덱스만 저장합니다.
+ * 생성 후에는 변경되지 않으므로 여러 스레드에서 동시에 조회할 수 있습니다.
+ */
+public final class GeoPointIndex {
+    private static final double EARTH_RADIUS = 6371000; // 지구 반경 (미터)
+    private static final double METERS_PER_DEGREE = Math.PI * EARTH_RADIUS / 180;
+
+    private final double[] longitudes;
+    private final double[] latitudes;
+    private final double[] weights;
+    private final STRtree tree;
+
+    /**
+     * @param longitudes 경도 배열
+     * @param latitudes 위도 배열
+     * @param weights 지점별 가중치 (반경 내 합계를 구할 값)
+     */
+    public GeoPointIndex(double[] longitudes, double[] latitudes, double[] weights) {
+        if (longitudes.length != latitudes.length || longitudes.length != weights.length) {
+            throw new IllegalArgumentException("좌표와 가중치 배열의 길이가 같아야 합니다");
+        }
+        this.longitudes = longitudes;
+        this.latitudes = latitudes;
+        this.weights = weights;
+        this.tree = new STRtree();
+        for (int i = 0; i < longitudes.length; i++) {
+            tree.insert(new Envelope(longitudes[i], longitudes[i], latitudes[i], latitudes[i]), i);
+        }
+        tree.build();
+    }
+
+    public int size() {
+        return longitudes.length;
+    }
+
+    /**
+     * 반경 내 지점의 최근접 거리와 가중치 합계를 구합니다.
+     *
+     * @param longitude 기준 경도
+     * @param latitude 기준 위도
+     * @param radiusMeters 반경 (미터)
+     * @return 반경 내 집계 (지점이 없으면 {@link RadiusStats#hasPoint()}가 false)
+     */
+    public RadiusStats within(double longitude, double latitude, double radiusMeters) {
+        double latDelta = radiusMeters / METERS_PER_DEGREE;
+        double lngDelta = radiusMeters / (METERS_PER_DEGREE * Math.max(Math.cos(Math.toRadians(latitude)), 1e-6));
+        Envelope searchEnvelope = new Envelope(
+            longitude - lngDelta, longitude + lngDelta,
+            latitude - latDelta, latitude + latDelta
+        );
+
+        double[] nearest = {Double.POSITIVE_INFINITY};
+        double[] weightSum = {0};
+        int[] count = {0};
+        tree.query(searchEnvelope, item -> {
+            int i = (Integer) item;
+            double distance = distance(longitude, latitude, longitudes[i], latitudes[i]);
+            if (distance <= radiusMeters) {
+                nearest[0] = Math.min(nearest[0], distance);
+                weightSum[0] += weights[i];
+                count[0]++;
+            }
+        });
+        return new RadiusStats(count[0], count[0] > 0 ? nearest[0] : Double.NaN, weightSum[0]);
+    }
+
+    /**
+     * 두 지점 간의 거리를 Haversine 공식을 사용하여 계산
+     *
+     * @return 두 지점 간의 거리 (미터 단위)
+     */
+    public static double distance(double lng1, double lat1, double lng2, double lat2) {
+        double phi1 = Math.toRadians(lat1);
+        double phi2 = Math.toRadians(lat2);
+        double dLat = phi2 - phi1;
+        double dLon = Math.toRadians(lng2 - lng1);
+
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(phi1) * Math.cos(phi2)
+                * Math.sin(dLon / 2) * Math.sin(dLon / 2);
+        return EARTH_RADIUS * 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
+    }
+
+    /**
+     * 반경 내 집계
+     *
+     * @param count 반경 내 지점 수
+     * @param nearestDistance 최근접 지점까지의 거리 (미터, 지점이 없으면 NaN)
+     * @param weightSum 반경 내 가중치 합계
+     */
+    public record RadiusStats(int count, double nearestDistance, double weightSum) {
+        public boolean hasPoint() {
+            return count > 0;
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.zipsoon.batch.infrastructure.processor.score.index;
+
+import com.zipsoon.batch.domain.source.Park;
+import com.zipsoon.batch.infrastructure.repository.score.ParkScoreRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 공원 위치 메모리 공간 인덱스
+ * 공원 테이블 전체를 한 번 읽어 {@link GeoPointIndex}로 보관하며, 가중치는 공원 면적입니다.
+ * 소스 수집이 끝나면 {@link #refresh()}로 다시 적재하고, 적재 전 첫 조회 시에는 지연 적재합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ParkSpatialIndex {
+    private final ParkScoreRepository parkScoreRepository;
+    private volatile GeoPointIndex index;
+
+    public GeoPointIndex get() {
+        GeoPointIndex current = index;
+        if (current == null) {
+            synchronized (this) {
+                current = index;
+                if (current == null) {
+                    current = load();
+                    index = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    public synchronized void refresh() {
+        index = load();
+    }
+
+    private GeoPointIndex load() {
+        long startTime = System.currentTimeMillis();
+        List<Park> parks = parkScoreRepository.findAllParks();
+
+        double[] longitudes = new double[parks.size()];
+        double[] latitudes = new double[parks.size()];
+        double[] areas = new double[parks.size()];
+        for (int i = 0; i < parks.size(); i++) {
+            Park park = parks.get(i);
+            longitudes[i] = park.getLocation().getX();
+            latitudes[i] = park.getLocation().getY();
+            areas[i] = park.getArea();
+        }
+
+        GeoPointIndex loaded = new GeoPointIndex(longitudes, latitudes, areas);
+        log.info("[INDEX:REBUILD] 공원 공간 인덱스 적재 완료 - 공원: {}개, 소요: {}ms",
+                loaded.size(), System.currentTimeMillis() - startTime);
+        return loaded;
+    }
+}
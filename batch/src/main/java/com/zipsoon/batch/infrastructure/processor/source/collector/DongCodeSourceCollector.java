@@ -28,6 +28,11 @@ public class DongCodeSourceCollector implements SourceCollector {
     private static final String DATA_FILE = "source/data/dongcode-resource-data.csv";
     private static final String JOB_NAME = "sourceJob";
 
+    @Override
+    public String getSourceName() {
+        return TABLE_NAME;
+    }
+
     @Override
     public void create() {
         try {
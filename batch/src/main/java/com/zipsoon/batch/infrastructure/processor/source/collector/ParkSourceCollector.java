@@ -23,11 +23,16 @@ public class ParkSourceCollector implements SourceCollector {
     private final CsvSourceFileLoader csvSourceFileLoader;
     private final JobExplorer jobExplorer;
 
-    private static final String TABLE_NAME = "parks";
+    public static final String TABLE_NAME = "parks";
     private static final String SCHEMA_FILE = "source/sql/park-score-resource-query.sql";
     private static final String DATA_FILE = "source/data/park-score-resource-data.csv";
     private static final String JOB_NAME = "sourceJob";
 
+    @Override
+    public String getSourceName() {
+        return TABLE_NAME;
+    }
+
     @Override
     public void create() {
         try {
@@ -55,14 +60,15 @@ public class ParkSourceCollector implements SourceCollector {
         }
     }
 
+    /**
+     * 적재가 끝난 공원 테이블에 공간 인덱스를 한 번 생성합니다.
+     * location은 테이블 정의의 생성 열이라 COPY 중에 계산되므로 별도의 열 추가·좌표 갱신이 없습니다.
+     */
     @Override
     public void preprocess() {
         try {
-            sourceRepository.addLocationColumn(TABLE_NAME);
-            log.info("공원 테이블에 location 컬럼을 추가했습니다.");
-
-            int updatedRows = sourceRepository.updateLocationCoordinates(TABLE_NAME);
-            log.info("{}개의 공원 위치 데이터를 업데이트했습니다.", updatedRows);
+            sourceRepository.createGeographyIndex(TABLE_NAME);
+            log.info("공원 테이블에 location geography 인덱스를 생성했습니다.");
         } catch (Exception e) {
             log.error("전처리 작업 실패: {}", e.getMessage(), e);
             throw new RuntimeException("전처리 실패", e);
@@ -1,26 +1,118 @@
 package com.zipsoon.batch.infrastructure.repository.estate;
 
+import com.zipsoon.batch.infrastructure.copy.CsvRecord;
+import com.zipsoon.batch.infrastructure.copy.PgCopyWriter;
 import com.zipsoon.batch.infrastructure.mapper.estate.BatchEstateMapper;
 import com.zipsoon.common.domain.Estate;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 @Repository
 @RequiredArgsConstructor
 public class BatchEstateRepository {
+    private static final String STAGING_TABLE = "estate_staging";
+    private static final List<String> STAGING_COLUMNS = List.of(
+        "platform_type", "platform_id", "raw_data", "estate_name", "estate_type", "trade_type",
+        "price", "rent_price", "area_meter", "area_pyeong", "location", "address",
+        "tags", "image_urls", "dong_code", "created_at"
+    );
+
     private final BatchEstateMapper mapper;
+    private final PgCopyWriter pgCopyWriter;
 
+    /**
+     * 수집한 매물을 estate 테이블에 반영합니다.
+     * 원본 데이터가 바뀐 매물만 이전 버전을 스냅샷으로 남기고 갱신하며, 기존 매물의 id는 유지됩니다.
+     * 같은 매물이 여러 번 수집된 경우 마지막 값만 반영합니다.
+     * 매물은 COPY로 임시 스테이징 테이블에 적재한 뒤 집합 단위 SQL로 반영하므로 호출자의 트랜잭션 안에서 호출해야 합니다.
+     */
     public void saveAll(List<Estate> estates) {
         if (estates == null || estates.isEmpty()) {
             return;
         }
-        mapper.insertAll(estates);
+        mapper.createStaging();
+        mapper.truncateStaging();
+        pgCopyWriter.copy(STAGING_TABLE, STAGING_COLUMNS, distinctByPlatformKey(estates), BatchEstateRepository::toCsv);
+
+        mapper.insertChangedIntoSnapshot();
+        mapper.upsertFromStaging();
+        mapper.insertSeenFromStaging();
     }
 
-    // 최신 부동산 데이터 조회
-    public List<Estate> findAll() {
-        return mapper.selectAll();
+    // 마지막 페이지까지 수집을 마친 법정동 기록 (매물 저장과 같은 트랜잭션 안에서 호출)
+    public void markCollected(List<String> dongCodes) {
+        if (dongCodes == null || dongCodes.isEmpty()) {
+            return;
+        }
+        mapper.insertCollectedDongs(dongCodes);
+    }
+
+    // 수집 시작 전 확인된 매물 키와 수집 완료 법정동 초기화
+    public void resetSeen() {
+        mapper.truncateSeen();
+    }
+
+    // 이번 수집에서 확인된 매물 수
+    public long countSeen() {
+        return mapper.countSeen();
+    }
+
+    /**
+     * 이번 수집에서 확인되지 않은 매물을 스냅샷으로 남기고 삭제 표시합니다.
+     * 수집 완료로 기록된 법정동의 매물만 대상으로 하므로, 수집 도중 실패한 법정동의 매물은 그대로 유지됩니다.
+     * 삭제 표시된 매물의 점수는 제거되며, 매물 행과 찜 목록은 유지되어 다시 게시되면 같은 id로 복구됩니다.
+     *
+     * @return 삭제 표시된 매물 수
+     */
+    public int tombstoneUnseen() {
+        int tombstoned = mapper.tombstoneUnseen();
+        mapper.deleteScoreSummariesOfDeleted();
+        mapper.deleteScoresOfDeleted();
+        return tombstoned;
+    }
+
+    /**
+     * 점수 계산에 필요한 id와 좌표만 id 키셋 페이지 단위로 조회합니다.
+     *
+     * @param afterId 이전 페이지의 마지막 id (첫 페이지는 0)
+     * @param limit   페이지 크기
+     * @return id 오름차순 매물 목록 (id, location만 채워짐)
+     */
+    public List<Estate> findScoringPage(long afterId, int limit) {
+        return mapper.selectScoringPage(afterId, limit);
+    }
+
+    // STAGING_COLUMNS 순서와 같아야 함 (열거형은 타입 핸들러와 같이 한글 이름으로 저장)
+    private static void toCsv(Estate estate, CsvRecord record) {
+        record.text(estate.getPlatformType() != null ? estate.getPlatformType().getKoreanName() : null)
+            .text(estate.getPlatformId())
+            .json(estate.getRawData())
+            .text(estate.getEstateName())
+            .text(estate.getEstateType() != null ? estate.getEstateType().getKoreanName() : null)
+            .text(estate.getTradeType() != null ? estate.getTradeType().getKoreanName() : null)
+            .value(estate.getPrice())
+            .value(estate.getRentPrice())
+            .value(estate.getAreaMeter())
+            .value(estate.getAreaPyeong())
+            .geometry(estate.getLocation())
+            .text(estate.getAddress())
+            .textArray(estate.getTags())
+            .textArray(estate.getImageUrls())
+            .text(estate.getDongCode())
+            .value(estate.getCreatedAt());
+    }
+
+    private List<Estate> distinctByPlatformKey(List<Estate> estates) {
+        Map<List<Object>, Estate> unique = new LinkedHashMap<>();
+        for (Estate estate : estates) {
+            unique.put(Arrays.asList(estate.getPlatformType(), estate.getPlatformId()), estate);
+        }
+        return unique.size() == estates.size() ? estates : new ArrayList<>(unique.values());
     }
 }
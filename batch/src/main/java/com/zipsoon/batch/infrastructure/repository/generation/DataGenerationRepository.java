@@ -0,0 +1,24 @@
+package com.zipsoon.batch.infrastructure.repository.generation;
+
+import com.zipsoon.batch.infrastructure.mapper.generation.DataGenerationMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 데이터 세대 저장소
+ * 파이프라인이 데이터를 갱신했음을 API 서버에 알리기 위해 세대 번호를 기록합니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class DataGenerationRepository {
+    private final DataGenerationMapper mapper;
+
+    /**
+     * 새 데이터 세대를 기록합니다.
+     *
+     * @return 기록된 세대 번호
+     */
+    public long publishGeneration() {
+        return mapper.insertGeneration();
+    }
+}
@@ -6,23 +6,67 @@ import com.zipsoon.common.domain.score.ScoreType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
+import java.util.Arrays;
 import java.util.List;
-import java.util.Map;
 
 @Repository
 @RequiredArgsConstructor
 public class NormalizeRepository {
     private final NormalizeMapper mapper;
 
-    public List<ScoreType> findAllActiveScoreTypes() {
-        return mapper.selectAllActiveScoreTypes();
+    // 원시 점수가 바뀌어 정규화가 필요한 활성 점수 유형 조회
+    public List<ScoreType> findScoreTypesPendingNormalization() {
+        return mapper.selectScoreTypesPendingNormalization();
     }
 
-    public List<EstateScore> findByScoreTypeId(Long scoreTypeId) {
-        return mapper.selectByScoreTypeId(scoreTypeId);
+    public boolean hasPendingNormalization() {
+        return mapper.countScoreTypesPendingNormalization() > 0;
     }
 
-    public void updateNormalizedScores(Long scoreTypeId, Map<Long, Double> updates) {
-        mapper.updateNormalizedScoresByScoreTypeIdAndIds(scoreTypeId, updates);
+    /**
+     * 점수 유형의 원시 점수를 기본형 배열로 조회합니다.
+     * 행 객체를 만들지 않고 스트리밍으로 채우므로 점수당 8바이트만 사용합니다.
+     */
+    public double[] findRawScores(Long scoreTypeId) {
+        double[][] buffer = {new double[1024]};
+        int[] size = {0};
+        mapper.selectRawScoresByScoreTypeId(scoreTypeId, context -> {
+            if (size[0] == buffer[0].length) {
+                buffer[0] = Arrays.copyOf(buffer[0], buffer[0].length * 2);
+            }
+            Double rawScore = context.getResultObject();
+            buffer[0][size[0]++] = rawScore != null ? rawScore : 0.0;
+        });
+        return Arrays.copyOf(buffer[0], size[0]);
+    }
+
+    // id 기준 keyset 페이지 조회 (afterId보다 큰 id부터 limit개)
+    public List<EstateScore> findPageByScoreTypeId(Long scoreTypeId, long afterId, int limit) {
+        return mapper.selectPageByScoreTypeId(scoreTypeId, afterId, limit);
+    }
+
+    // 점수 id와 정규화 점수를 같은 위치끼리 짝지어 한 번에 갱신
+    public void updateNormalizedScores(Long[] ids, BigDecimal[] normalizedScores) {
+        if (ids.length == 0) {
+            return;
+        }
+        mapper.updateNormalizedScores(ids, normalizedScores);
+    }
+
+    /**
+     * 매물별 점수 요약 테이블을 정규화 점수로 다시 적재합니다.
+     * 하나의 트랜잭션 안에서 호출해야 조회 측에 빈 테이블이 보이지 않습니다.
+     *
+     * @return 적재된 매물 수
+     */
+    public int refreshScoreSummaries() {
+        mapper.deleteAllScoreSummaries();
+        return mapper.insertScoreSummaries();
+    }
+
+    // 정규화와 점수 요약 적재가 끝났음을 기록 (같은 트랜잭션에서 호출)
+    public void clearPendingNormalization() {
+        mapper.clearPendingNormalization();
     }
 }
@@ -1,5 +1,6 @@
 package com.zipsoon.batch.infrastructure.repository.score;
 
+import com.zipsoon.batch.domain.source.NearbyParkStats;
 import com.zipsoon.batch.domain.source.Park;
 import com.zipsoon.batch.infrastructure.mapper.score.ParkScoreMapper;
 import lombok.RequiredArgsConstructor;
@@ -16,4 +17,17 @@ public class ParkScoreRepository {
     public List<Park> findParksWithin(Point location, double radiusMeters) {
         return parkScoreMapper.selectParksWithin(location, radiusMeters);
     }
-}
\ No newline at end of file
+
+    // 메모리 공간 인덱스 적재용 전체 공원 조회
+    public List<Park> findAllParks() {
+        return parkScoreMapper.selectAllParks();
+    }
+
+    // 여러 매물의 주변 공원 집계를 한 번의 쿼리로 조회
+    public List<NearbyParkStats> findNearbyParkStats(List<Long> estateIds, double radiusMeters) {
+        if (estateIds.isEmpty()) {
+            return List.of();
+        }
+        return parkScoreMapper.selectNearbyParkStats(estateIds.toArray(Long[]::new), radiusMeters);
+    }
+}
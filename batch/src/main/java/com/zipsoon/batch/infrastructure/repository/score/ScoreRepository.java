@@ -1,24 +1,82 @@
 package com.zipsoon.batch.infrastructure.repository.score;
 
+import com.zipsoon.batch.infrastructure.copy.CsvRecord;
+import com.zipsoon.batch.infrastructure.copy.PgCopyWriter;
 import com.zipsoon.batch.infrastructure.mapper.score.BatchScoreMapper;
 import com.zipsoon.common.domain.EstateScore;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 @Repository
 @RequiredArgsConstructor
 public class ScoreRepository {
+    private static final String STAGING_TABLE = "estate_score_staging";
+    private static final List<String> STAGING_COLUMNS = List.of(
+        "estate_id", "score_type_id", "raw_score", "input_hash", "created_at");
+
     private final BatchScoreMapper mapper;
+    private final PgCopyWriter pgCopyWriter;
 
-    // 최신 부동산 점수 저장
+    /**
+     * 최신 부동산 점수 저장
+     * 점수는 COPY로 임시 스테이징 테이블에 적재한 뒤 한 번의 upsert로 반영하므로 호출자의 트랜잭션 안에서 호출해야 합니다.
+     * 같은 매물·점수 유형이 여러 번 포함된 경우 마지막 값만 반영합니다.
+     * 원시 점수가 바뀌는 기존 점수는 스냅샷으로 옮기고, 해당 점수 유형은 정규화 대상으로 표시합니다.
+     */
     public void saveAll(List<EstateScore> scores) {
-        mapper.insertAll(scores);
+        if (scores == null || scores.isEmpty()) {
+            return;
+        }
+        mapper.createStaging();
+        mapper.truncateStaging();
+        pgCopyWriter.copy(STAGING_TABLE, STAGING_COLUMNS, distinctByEstateAndType(scores), ScoreRepository::toCsv);
+        mapper.markPendingNormalization();
+        mapper.insertReplacedIntoScoreSnapshot();
+        mapper.upsertFromStaging();
+    }
+
+    /**
+     * 매물 묶음의 저장된 점수 계산 입력 해시를 조회합니다.
+     *
+     * @param scoreTypeId 점수 유형 ID
+     * @param estateIds   매물 ID 목록
+     * @return 매물 ID별 입력 해시 (점수가 없거나 해시가 기록되지 않은 매물은 제외)
+     */
+    public Map<Long, Long> findInputHashes(Long scoreTypeId, List<Long> estateIds) {
+        if (estateIds.isEmpty()) {
+            return Map.of();
+        }
+        List<EstateScore> rows = mapper.selectInputHashes(scoreTypeId, estateIds.toArray(Long[]::new));
+        Map<Long, Long> inputHashes = new HashMap<>(rows.size() * 2);
+        for (EstateScore row : rows) {
+            if (row.getInputHash() != null) {
+                inputHashes.put(row.getEstateId(), row.getInputHash());
+            }
+        }
+        return inputHashes;
     }
-    
-    // 오래된 점수 스냅샷으로 이동
-    public void migrateToScoreSnapshot() {
-        mapper.insertIntoScoreSnapshot();
+
+    // STAGING_COLUMNS 순서와 같아야 함
+    private static void toCsv(EstateScore score, CsvRecord record) {
+        record.value(score.getEstateId())
+            .value(score.getScoreTypeId())
+            .value(score.getRawScore())
+            .value(score.getInputHash())
+            .value(score.getCreatedAt());
+    }
+
+    private List<EstateScore> distinctByEstateAndType(List<EstateScore> scores) {
+        Map<List<Long>, EstateScore> unique = new LinkedHashMap<>();
+        for (EstateScore score : scores) {
+            unique.put(Arrays.asList(score.getEstateId(), score.getScoreTypeId()), score);
+        }
+        return unique.size() == scores.size() ? scores : new ArrayList<>(unique.values());
     }
-}
\ No newline at end of file
+}
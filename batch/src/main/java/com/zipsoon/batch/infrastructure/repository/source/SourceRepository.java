@@ -4,6 +4,8 @@ import com.zipsoon.batch.infrastructure.mapper.source.SourceMapper;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 @Repository
 @RequiredArgsConstructor
 public class SourceRepository {
@@ -13,15 +15,32 @@ public class SourceRepository {
         sourceMapper.executeDDL(sql);
     }
 
-    public void addLocationColumn(String tableName) {
-        sourceMapper.addLocationColumn(tableName);
-    }
-
-    public int updateLocationCoordinates(String tableName) {
-        return sourceMapper.updateLocationCoordinates(tableName);
+    // 공간 조인(ST_DWithin geography)에 사용할 표현식 인덱스 생성 및 통계 갱신 (적재가 끝난 뒤 한 번만 호출)
+    public void createGeographyIndex(String tableName) {
+        sourceMapper.createGeographyIndex(tableName);
+        sourceMapper.analyze(tableName);
     }
 
     public void dropTable(String tableName) {
         sourceMapper.dropTable(tableName);
     }
+
+    // 소스 데이터를 다시 적재했음을 기록 (버전 증가)
+    public void increaseVersion(String sourceName) {
+        sourceMapper.increaseVersion(sourceName);
+    }
+
+    /**
+     * 소스 데이터 버전의 합을 조회합니다.
+     * 버전은 증가만 하므로 어느 소스든 다시 적재되면 합도 반드시 바뀝니다.
+     *
+     * @param sourceNames 소스 이름 목록
+     * @return 버전 합 (소스가 없거나 적재 기록이 없으면 0)
+     */
+    public long findVersionSum(List<String> sourceNames) {
+        if (sourceNames.isEmpty()) {
+            return 0L;
+        }
+        return sourceMapper.selectVersionSum(sourceNames.toArray(String[]::new));
+    }
 }
\ No newline at end of file
@@ -1,10 +1,13 @@
 package com.zipsoon.batch.job.estate;
 
+import com.zipsoon.batch.application.service.estate.collector.DongEstates;
+import com.zipsoon.batch.infrastructure.external.naver.NaverLandApiException;
+import com.zipsoon.batch.infrastructure.repository.estate.BatchEstateRepository;
 import com.zipsoon.batch.job.estate.processor.EstateItemProcessor;
 import com.zipsoon.batch.job.estate.reader.EstateItemReader;
 import com.zipsoon.batch.job.estate.writer.EstateItemWriter;
 import com.zipsoon.batch.job.listener.StepExecutionLoggingListener;
-import com.zipsoon.common.domain.Estate;
+import com.zipsoon.batch.job.support.ThreadPoolRepeatOperations;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.core.Job;
@@ -12,15 +15,22 @@ import org.springframework.batch.core.Step;
 import org.springframework.batch.core.job.builder.JobBuilder;
 import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.transaction.PlatformTransactionManager;
 
-import java.util.List;
-
 /**
  * Estate 관련 배치 작업 설정
- * 새 데이터 수집 및 저장 처리 (스냅샷 작업은 별도 DatabaseInitJob에서 처리)
+ * 1. 확인된 매물 키 초기화 (estateSeenResetStep)
+ * 2. 매물 수집 및 upsert (estateBatchStep) - 바뀐 매물만 스냅샷으로 남기고 갱신
+ * 3. 내려간 매물 삭제 표시 (estateTombstoneStep) - 수집을 마친 법정동만 대상
+ * 법정동 코드 하나가 청크 하나이며, 여러 법정동을 스레드 풀에서 동시에 수집합니다.
+ * API 오류로 수집하지 못한 법정동은 건너뛰어 삭제 표시 대상에서 빠지며, 건너뛴 법정동이 상한을 넘으면 작업이 실패합니다.
+ * 기존 매물은 id가 유지되므로 수집 중에도 API는 이전 데이터를 그대로 제공합니다.
  */
 @Configuration
 @RequiredArgsConstructor
@@ -33,24 +43,113 @@ public class EstateJobConfig {
     private final EstateItemReader estateItemReader;
     private final EstateItemProcessor estateItemProcessor;
     private final EstateItemWriter estateItemWriter;
+    private final BatchEstateRepository batchEstateRepository;
+
+    @Value("${naver.land.max-concurrency:4}")
+    private int maxConcurrency;
+
+    @Value("${naver.land.max-failed-dongs:10}")
+    private int maxFailedDongs;
 
     @Bean(name = JOB_NAME)
     public Job estateScoreJob() {
         log.info("[BATCH:JOB-CONFIG] 매물 수집 작업(estateJob) 구성");
         return new JobBuilder(JOB_NAME, jobRepository)
-            .start(estateBatchStep())
+            .start(estateSeenResetStep())
+            .next(estateBatchStep())
+            .next(estateTombstoneStep())
+            .build();
+    }
+
+    @Bean
+    public Step estateSeenResetStep() {
+        log.info("[BATCH:STEP-CONFIG] 확인된 매물 키 초기화 단계(estateSeenResetStep) 구성");
+        return new StepBuilder("estateSeenResetStep", jobRepository)
+            .tasklet(estateSeenResetTasklet(), transactionManager)
+            .listener(new StepExecutionLoggingListener())
             .build();
     }
+
+    @Bean
+    public Tasklet estateSeenResetTasklet() {
+        return (contribution, chunkContext) -> {
+            try {
+                log.info("[BATCH:TASKLET-START] 확인된 매물 키 초기화 시작");
+                batchEstateRepository.resetSeen();
+                log.info("[BATCH:TASKLET-END] 확인된 매물 키 초기화 완료");
+                return RepeatStatus.FINISHED;
+            } catch (Exception e) {
+                log.error("[BATCH:TASKLET-ERR] 확인된 매물 키 초기화 실패: {}", e.getMessage(), e);
+                throw e;
+            }
+        };
+    }
     
     @Bean
     public Step estateBatchStep() {
         log.info("[BATCH:STEP-CONFIG] 매물 수집 단계(estateBatchStep) 구성");
         return new StepBuilder("estateBatchStep", jobRepository)
-            .<String, List<Estate>>chunk(1, transactionManager)
+            .<String, DongEstates>chunk(1, transactionManager)
             .reader(estateItemReader)
             .processor(estateItemProcessor)
             .writer(estateItemWriter)
+            .faultTolerant()
+            .skip(NaverLandApiException.class)
+            .skipLimit(maxFailedDongs)
+            .stepOperations(new ThreadPoolRepeatOperations(estateCollectionTaskExecutor()))
+            .listener(new StepExecutionLoggingListener())
+            .build();
+    }
+
+    @Bean
+    public Step estateTombstoneStep() {
+        log.info("[BATCH:STEP-CONFIG] 내려간 매물 삭제 표시 단계(estateTombstoneStep) 구성");
+        return new StepBuilder("estateTombstoneStep", jobRepository)
+            .tasklet(estateTombstoneTasklet(), transactionManager)
             .listener(new StepExecutionLoggingListener())
             .build();
     }
+
+    /**
+     * 이번 수집에서 확인되지 않은 매물 삭제 표시
+     * 수집 단계가 실패하면 작업이 중단되어 실행되지 않으며, 확인된 매물이 하나도 없으면 건너뜁니다.
+     */
+    @Bean
+    public Tasklet estateTombstoneTasklet() {
+        return (contribution, chunkContext) -> {
+            try {
+                log.info("[BATCH:TASKLET-START] 내려간 매물 삭제 표시 시작");
+
+                long seen = batchEstateRepository.countSeen();
+                if (seen == 0) {
+                    log.warn("[BATCH:TASKLET-END] 이번 수집에서 확인된 매물 없음, 삭제 표시 생략");
+                    return RepeatStatus.FINISHED;
+                }
+
+                int tombstoned = batchEstateRepository.tombstoneUnseen();
+                log.info("[BATCH:TASKLET-END] 내려간 매물 삭제 표시 완료 - 확인: {}개, 삭제 표시: {}개", seen, tombstoned);
+                return RepeatStatus.FINISHED;
+            } catch (Exception e) {
+                log.error("[BATCH:TASKLET-ERR] 내려간 매물 삭제 표시 실패: {}", e.getMessage(), e);
+                throw e;
+            }
+        };
+    }
+
+    /**
+     * 법정동 단위 매물 수집 스레드 풀
+     * 스레드마다 한 법정동의 페이지를 차례로 요청하므로, 스레드 수가 동시에 수집하는 법정동 수이자 네이버 API 동시 요청 수의 상한이 됩니다.
+     * 초당 요청 수는 {@link com.zipsoon.batch.infrastructure.external.naver.NaverLandRateLimiter}가 전체 스레드에 걸쳐 제한합니다.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor estateCollectionTaskExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(maxConcurrency);
+        executor.setMaxPoolSize(maxConcurrency);
+        executor.setThreadNamePrefix("estate-collect-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.initialize();
+        log.info("[BATCH:STEP-CONFIG] 매물 수집 동시 실행 수: {}", maxConcurrency);
+        return executor;
+    }
 }
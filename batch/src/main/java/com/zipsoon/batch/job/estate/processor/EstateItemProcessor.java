@@ -1,5 +1,6 @@
 package com.zipsoon.batch.job.estate.processor;
 
+import com.zipsoon.batch.application.service.estate.collector.DongEstates;
 import com.zipsoon.batch.infrastructure.processor.estate.collector.NaverEstateCollector;
 import com.zipsoon.common.domain.Estate;
 import lombok.RequiredArgsConstructor;
@@ -13,24 +14,22 @@ import java.util.List;
 @Slf4j
 @Component
 @RequiredArgsConstructor
-public class EstateItemProcessor implements ItemProcessor<String, List<Estate>> {
+public class EstateItemProcessor implements ItemProcessor<String, DongEstates> {
     private final NaverEstateCollector estateCollector;
 
     @Override
-    public List<Estate> process(String dongCode) {
+    public DongEstates process(String dongCode) {
         log.debug("[BATCH:STEP-PROCESSOR] 법정동코드 {} 매물 수집 시작", dongCode);
         
         List<Estate> snapshots = new ArrayList<>();
-        int page = 1;
 
-        while (estateCollector.hasMoreData(dongCode, page)) {
-            List<Estate> pageData = estateCollector.collect(dongCode, page);
-            snapshots.addAll(pageData);
-            log.debug("[BATCH:STEP-PROCESSOR] 법정동코드 {} - 페이지 {} 매물 {}개 수집", dongCode, page, pageData.size());
-            page++;
-        }
+        // 페이지당 API 호출 한 번으로 매물과 다음 페이지 여부를 함께 받음 (마지막 페이지 포함)
+        estateCollector.pages(dongCode).forEach(page -> {
+            snapshots.addAll(page.estates());
+            log.debug("[BATCH:STEP-PROCESSOR] 법정동코드 {} - 페이지 {} 매물 {}개 수집", dongCode, page.page(), page.estates().size());
+        });
         
         log.info("[BATCH:STEP-PROCESSOR] 법정동코드 {} 매물 수집 완료 - 총 {}개 수집됨", dongCode, snapshots.size());
-        return snapshots;
+        return new DongEstates(dongCode, snapshots);
     }
 }
@@ -18,8 +18,11 @@ public class EstateItemReader implements ItemReader<String> {
     private List<String> dongCodes;
     private int currentIndex = 0;
 
+    /**
+     * 다음 법정동 코드를 반환합니다. 다중 스레드 단계에서 여러 스레드가 호출하므로 동기화합니다.
+     */
     @Override
-    public String read() {
+    public synchronized String read() {
         if (dongCodes == null) {
             this.dongCodes = dongCodeService.getAllDongCodes()
                 .stream()
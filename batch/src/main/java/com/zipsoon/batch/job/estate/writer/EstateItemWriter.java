@@ -1,5 +1,6 @@
 package com.zipsoon.batch.job.estate.writer;
 
+import com.zipsoon.batch.application.service.estate.collector.DongEstates;
 import com.zipsoon.batch.infrastructure.repository.estate.BatchEstateRepository;
 import com.zipsoon.common.domain.Estate;
 import lombok.RequiredArgsConstructor;
@@ -13,35 +14,40 @@ import org.springframework.transaction.annotation.Transactional;
 import java.util.List;
 
 /**
- * 수집된 부동산 매물 데이터를 estate 테이블에 저장하는 Writer
- * 스냅샷 이동 및 테이블 비우기는 별도 Tasklet에서 처리
+ * 수집된 부동산 매물 데이터를 estate 테이블에 upsert하는 Writer
+ * 바뀐 매물만 스냅샷으로 남기며, 내려간 매물의 삭제 표시는 수집 후 별도 Tasklet에서 처리
+ * 매물과 함께 수집 완료된 법정동을 같은 트랜잭션에서 기록하므로, 저장에 실패한 법정동은 삭제 표시 대상에서 빠집니다.
  */
 @Slf4j
 @Component
 @RequiredArgsConstructor
-public class EstateItemWriter implements ItemWriter<List<Estate>> {
+public class EstateItemWriter implements ItemWriter<DongEstates> {
 
     private final BatchEstateRepository batchEstateRepository;
 
     @Override
     @Transactional
-    public void write(Chunk<? extends List<Estate>> chunk) {
+    public void write(Chunk<? extends DongEstates> chunk) {
         try {
             List<Estate> estates = chunk.getItems().stream()
-                .flatMap(List::stream)
+                .flatMap(collected -> collected.estates().stream())
+                .toList();
+            List<String> dongCodes = chunk.getItems().stream()
+                .map(DongEstates::dongCode)
                 .toList();
             
-            // 새로운 매물 정보 저장
-            log.info("[BATCH:STEP-WRITER] 새로운 매물 데이터 저장 시작: 총 {}개", estates.size());
+            // 수집한 매물 정보 반영
+            log.info("[BATCH:STEP-WRITER] 매물 데이터 저장 시작: 총 {}개", estates.size());
             
-            // 빈 리스트인 경우 저장 작업 생략
+            // 빈 리스트인 경우 매물 저장 생략 (수집 완료 기록은 남겨 내려간 매물을 삭제 표시할 수 있게 함)
             if (estates.isEmpty()) {
-                log.info("[BATCH:STEP-WRITER] 저장할 매물 없음, 데이터베이스 작업 생략");
-                return;
+                log.info("[BATCH:STEP-WRITER] 저장할 매물 없음, 매물 저장 생략");
+            } else {
+                batchEstateRepository.saveAll(estates);
+                log.info("[BATCH:STEP-WRITER] 매물 데이터 저장 완료: {}개", estates.size());
             }
-            
-            batchEstateRepository.saveAll(estates);
-            log.info("[BATCH:STEP-WRITER] 매물 데이터 저장 완료: {}개", estates.size());
+
+            batchEstateRepository.markCollected(dongCodes);
         } catch (DataIntegrityViolationException e) {
             log.error("[BATCH:STEP-ERR] 매물 데이터 무결성 위반 오류: {}", e.getMessage());
             throw new IllegalArgumentException("데이터 무결성 위반으로 매물 저장 실패: " + e.getMessage(), e);
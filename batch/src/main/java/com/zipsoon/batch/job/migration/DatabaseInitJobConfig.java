@@ -2,7 +2,6 @@ package com.zipsoon.batch.job.migration;
 
 import com.zipsoon.batch.infrastructure.processor.source.collector.DongCodeSourceCollector;
 import com.zipsoon.batch.job.listener.StepExecutionLoggingListener;
-import com.zipsoon.batch.job.migration.tasklet.DatabaseMigrationTasklet;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.core.Job;
@@ -20,7 +19,7 @@ import org.springframework.transaction.PlatformTransactionManager;
  * 데이터베이스 초기화 작업 설정
  * 이 작업은 다른 모든 작업 전에 실행되어야 함
  * 1. 법정동코드 테이블 초기화 (dongcodesInitStep) - 기존 DongCodeSourceCollector 활용
- * 2. 매물 데이터 스냅샷 이동 및 비우기 (migrationStep)
+ * 매물 스냅샷은 매물 수집 작업(estateJob)에서 바뀌거나 내려간 매물만 저장하므로 estate 테이블을 비우지 않음
  */
 @Configuration
 @RequiredArgsConstructor
@@ -30,7 +29,6 @@ public class DatabaseInitJobConfig {
 
     private final JobRepository jobRepository;
     private final PlatformTransactionManager transactionManager;
-    private final DatabaseMigrationTasklet databaseMigrationTasklet;
     private final DongCodeSourceCollector dongCodeSourceCollector;
 
     @Bean(name = JOB_NAME)
@@ -38,7 +36,6 @@ public class DatabaseInitJobConfig {
         log.info("[BATCH:JOB-CONFIG] 데이터베이스 초기화 작업(databaseInitJob) 구성");
         return new JobBuilder(JOB_NAME, jobRepository)
             .start(dongcodesInitStep())
-            .next(databaseMigrationStep())
             .build();
     }
     
@@ -68,13 +65,4 @@ public class DatabaseInitJobConfig {
             }
         };
     }
-    
-    @Bean
-    public Step databaseMigrationStep() {
-        log.info("[BATCH:STEP-CONFIG] 데이터베이스 마이그레이션 단계(databaseMigrationStep) 구성");
-        return new StepBuilder("databaseMigrationStep", jobRepository)
-            .tasklet(databaseMigrationTasklet, transactionManager)
-            .listener(new StepExecutionLoggingListener())
-            .build();
-    }
 }
\ No newline at end of file
@@ -13,7 +13,7 @@ import java.time.LocalDateTime;
 
 /**
  * 데이터베이스 초기화 작업 실행기
- * DatabaseInitTasklet과 DatabaseMigrationTasklet 실행
+ * 법정동코드 테이블 초기화 실행
  */
 @Slf4j
 @Component
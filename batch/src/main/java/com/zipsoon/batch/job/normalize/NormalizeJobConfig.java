@@ -1,5 +1,6 @@
 package com.zipsoon.batch.job.normalize;
 
+import com.zipsoon.batch.infrastructure.repository.normalize.NormalizeRepository;
 import com.zipsoon.batch.job.listener.StepExecutionLoggingListener;
 import com.zipsoon.batch.job.normalize.processor.NormalizeProcessor;
 import com.zipsoon.batch.job.normalize.reader.NormalizeReader;
@@ -12,6 +13,8 @@ import org.springframework.batch.core.Step;
 import org.springframework.batch.core.job.builder.JobBuilder;
 import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.repeat.RepeatStatus;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.transaction.PlatformTransactionManager;
@@ -28,12 +31,14 @@ public class NormalizeJobConfig {
     private final NormalizeReader normalizeReader;
     private final NormalizeProcessor normalizeProcessor;
     private final NormalizeWriter normalizeWriter;
+    private final NormalizeRepository normalizeRepository;
 
     @Bean(name = JOB_NAME)
     public Job normalizeJob() {
         log.info("[BATCH:JOB-CONFIG] 정규화 작업(normalizeJob) 구성");
         return new JobBuilder(JOB_NAME, jobRepository)
             .start(normalizeProcessingStep())
+            .next(scoreSummaryStep())
             .build();
     }
 
@@ -48,4 +53,41 @@ public class NormalizeJobConfig {
             .listener(new StepExecutionLoggingListener())
             .build();
     }
+
+    @Bean
+    public Step scoreSummaryStep() {
+        log.info("[BATCH:STEP-CONFIG] 점수 요약 적재 단계(scoreSummaryStep) 구성");
+        return new StepBuilder("scoreSummaryStep", jobRepository)
+            .tasklet(scoreSummaryTasklet(), transactionManager)
+            .listener(new StepExecutionLoggingListener())
+            .build();
+    }
+
+    /**
+     * 정규화가 끝난 점수로 매물별 점수 요약(estate_score_summary)을 다시 적재합니다.
+     * 지도 조회는 요청마다 평균과 상위 요소를 계산하지 않고 이 테이블을 그대로 읽습니다.
+     * 정규화한 점수 유형이 없으면 요약도 바뀌지 않으므로 건너뜁니다.
+     */
+    @Bean
+    public Tasklet scoreSummaryTasklet() {
+        return (contribution, chunkContext) -> {
+            try {
+                if (!normalizeRepository.hasPendingNormalization()) {
+                    log.info("[BATCH:TASKLET-END] 바뀐 원시 점수가 없어 점수 요약 적재 생략");
+                    return RepeatStatus.FINISHED;
+                }
+                log.info("[BATCH:TASKLET-START] 점수 요약 적재 시작");
+
+                int count = normalizeRepository.refreshScoreSummaries();
+                normalizeRepository.clearPendingNormalization();
+                contribution.incrementWriteCount(count);
+
+                log.info("[BATCH:TASKLET-END] 점수 요약 적재 완료: {}개 매물", count);
+                return RepeatStatus.FINISHED;
+            } catch (Exception e) {
+                log.error("[BATCH:TASKLET-ERR] 점수 요약 적재 실패: {}", e.getMessage(), e);
+                throw e;
+            }
+        };
+    }
 }
\ No newline at end of file
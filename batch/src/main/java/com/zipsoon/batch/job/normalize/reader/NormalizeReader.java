@@ -9,6 +9,10 @@ import org.springframework.stereotype.Component;
 import java.util.Iterator;
 import java.util.List;
 
+/**
+ * 정규화할 점수 유형을 읽는 Reader
+ * 지난 정규화 이후 원시 점수가 새로 생기거나 바뀌거나 삭제된 점수 유형만 읽습니다.
+ */
 @Component
 @RequiredArgsConstructor
 public class NormalizeReader implements ItemReader<ScoreType> {
@@ -19,7 +23,7 @@ public class NormalizeReader implements ItemReader<ScoreType> {
     @Override
     public ScoreType read() {
         if (iterator == null) {
-            List<ScoreType> scoreTypes = normalizeRepository.findAllActiveScoreTypes();
+            List<ScoreType> scoreTypes = normalizeRepository.findScoreTypesPendingNormalization();
             iterator = scoreTypes.iterator();
         }
 
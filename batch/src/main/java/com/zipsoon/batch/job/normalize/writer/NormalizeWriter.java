@@ -1,5 +1,6 @@
 package com.zipsoon.batch.job.normalize.writer;
 
+import com.zipsoon.batch.application.service.normalize.normalizer.ScoreNormalizer;
 import com.zipsoon.batch.infrastructure.repository.normalize.NormalizeRepository;
 import com.zipsoon.batch.application.service.score.calculator.ScoreCalculator;
 import com.zipsoon.common.domain.score.ScoreType;
@@ -8,12 +9,18 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.item.Chunk;
 import org.springframework.batch.item.ItemWriter;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
-import java.util.HashMap;
+import java.math.BigDecimal;
 import java.util.List;
-import java.util.Map;
+import java.util.function.DoubleUnaryOperator;
 
+/**
+ * 점수 유형별 정규화 점수를 계산해 저장하는 Writer
+ * 원시 점수만 기본형 배열로 한 번 읽어 통계를 구한 뒤, 점수 행은 id 기준 페이지 단위로 읽고 갱신하므로
+ * 메모리 사용량은 점수당 8바이트와 페이지 크기로 제한됩니다.
+ */
 @Component
 @RequiredArgsConstructor
 @Slf4j
@@ -21,6 +28,9 @@ public class NormalizeWriter implements ItemWriter<ScoreType> {
     private final NormalizeRepository normalizeRepository;
     private final List<ScoreCalculator> calculators;
 
+    @Value("${normalize.page-size:5000}")
+    private int pageSize = 5000;
+
     @Override
     public void write(Chunk<? extends ScoreType> chunk) {
         for (ScoreType scoreType : chunk) {
@@ -33,24 +43,39 @@ public class NormalizeWriter implements ItemWriter<ScoreType> {
 
             if (calculator == null || calculator.getNormalizer() == null) continue;
 
-            List<EstateScore> scores = normalizeRepository.findByScoreTypeId(scoreTypeId);
-            if (scores == null || scores.isEmpty()) continue;
+            // 통계는 원시 점수 전체로 한 번만 계산
+            double[] rawScores = normalizeRepository.findRawScores(scoreTypeId);
+            if (rawScores.length == 0) continue;
+            ScoreNormalizer normalizer = calculator.getNormalizer();
+            DoubleUnaryOperator normalize = normalizer.fit(rawScores);
+
+            // 점수는 id 순 페이지 단위로 읽어 변환하고 페이지마다 갱신
+            long afterId = 0;
+            int updatedCount = 0;
+            while (true) {
+                List<EstateScore> page = normalizeRepository.findPageByScoreTypeId(scoreTypeId, afterId, pageSize);
+                if (page == null || page.isEmpty()) break;
 
-            List<Double> rawScores = scores.stream()
-                .map(EstateScore::getRawScore)
-                .toList();
+                Long[] ids = new Long[page.size()];
+                BigDecimal[] normalizedScores = new BigDecimal[page.size()];
+                for (int i = 0; i < page.size(); i++) {
+                    EstateScore score = page.get(i);
+                    double normalizedScore = normalize.applyAsDouble(score.getRawScore());
+                    if (log.isDebugEnabled()) {
+                        log.debug("[BATCH:STEP-WRITER] 점수 ID: {}, 원시: {}, 정규화: {}",
+                            score.getId(), String.format("%.10f", score.getRawScore()), String.format("%.10f", normalizedScore));
+                    }
+                    ids[i] = score.getId();
+                    normalizedScores[i] = BigDecimal.valueOf(normalizedScore);
+                }
+                normalizeRepository.updateNormalizedScores(ids, normalizedScores);
 
-            Map<Long, Double> updates = new HashMap<>();
-            for (EstateScore score : scores) {
-                double rawScore = score.getRawScore();
-                double normalizedScore = calculator.getNormalizer().normalize(rawScore, rawScores);
-                log.debug("[BATCH:STEP-WRITER] 점수 ID: {}, 원시: {}, 정규화: {}",
-                    score.getId(), String.format("%.10f", rawScore), String.format("%.10f", normalizedScore));
-                updates.put(score.getId(), normalizedScore);
+                updatedCount += page.size();
+                afterId = page.get(page.size() - 1).getId();
+                if (page.size() < pageSize) break;
             }
 
-            normalizeRepository.updateNormalizedScores(scoreTypeId, updates);
-            log.info("[BATCH:STEP-WRITER] 점수 유형 {} 정규화 완료: {}개", scoreType.getName(), updates.size());
+            log.info("[BATCH:STEP-WRITER] 점수 유형 {} 정규화 완료: {}개", scoreType.getName(), updatedCount);
         }
     }
 
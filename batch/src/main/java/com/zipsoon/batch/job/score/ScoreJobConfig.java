@@ -4,6 +4,7 @@ import com.zipsoon.batch.job.listener.StepExecutionLoggingListener;
 import com.zipsoon.batch.job.score.processor.ScoreProcessor;
 import com.zipsoon.batch.job.score.reader.ScoreReader;
 import com.zipsoon.batch.job.score.writer.ScoreWriter;
+import com.zipsoon.batch.job.support.ThreadPoolRepeatOperations;
 import com.zipsoon.common.domain.Estate;
 import com.zipsoon.common.domain.EstateScore;
 import lombok.RequiredArgsConstructor;
@@ -13,12 +14,19 @@ import org.springframework.batch.core.Step;
 import org.springframework.batch.core.job.builder.JobBuilder;
 import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.transaction.PlatformTransactionManager;
 
 import java.util.List;
 
+/**
+ * 점수 계산 작업 설정
+ * 매물 묶음(id 구간) 하나가 청크 하나이며, 여러 묶음을 스레드 풀에서 동시에 계산합니다.
+ * 묶음끼리 매물이 겹치지 않으므로 청크별 저장은 서로 충돌하지 않습니다.
+ */
 @Configuration
 @RequiredArgsConstructor
 @Slf4j
@@ -31,6 +39,9 @@ public class ScoreJobConfig {
     private final ScoreProcessor scoreProcessor;
     private final ScoreWriter scoreWriter;
 
+    @Value("${score.max-concurrency:#{T(java.lang.Runtime).getRuntime().availableProcessors()}}")
+    private int maxConcurrency;
+
     @Bean(name = JOB_NAME)
     public Job scoreJob() {
         log.info("[BATCH:JOB-CONFIG] 점수 계산 작업(scoreJob) 구성");
@@ -43,11 +54,28 @@ public class ScoreJobConfig {
     public Step scoreProcessingStep() {
         log.info("[BATCH:STEP-CONFIG] 점수 계산 단계(scoreProcessingStep) 구성");
         return new StepBuilder("scoreProcessingStep", jobRepository)
-            .<Estate, List<EstateScore>>chunk(100, transactionManager)
+            .<List<Estate>, List<EstateScore>>chunk(1, transactionManager)
             .reader(scoreReader)
             .processor(scoreProcessor)
             .writer(scoreWriter)
+            .stepOperations(new ThreadPoolRepeatOperations(scoreCalculationTaskExecutor()))
             .listener(new StepExecutionLoggingListener())
             .build();
     }
+
+    /**
+     * 매물 묶음 단위 점수 계산 스레드 풀
+     * 점수 계산은 메모리 공간 인덱스 조회 위주의 CPU 작업이므로 기본 스레드 수는 코어 수이며, 스레드 수가 동시에 계산하는 묶음 수입니다.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor scoreCalculationTaskExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(maxConcurrency);
+        executor.setMaxPoolSize(maxConcurrency);
+        executor.setThreadNamePrefix("score-calc-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.initialize();
+        log.info("[BATCH:STEP-CONFIG] 점수 계산 동시 실행 수: {}", maxConcurrency);
+        return executor;
+    }
 }
\ No newline at end of file
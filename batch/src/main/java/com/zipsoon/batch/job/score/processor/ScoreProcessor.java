@@ -1,41 +1,130 @@
 package com.zipsoon.batch.job.score.processor;
 
 import com.zipsoon.batch.application.service.score.calculator.ScoreCalculator;
+import com.zipsoon.batch.infrastructure.config.ScoreExecutorConfig;
+import com.zipsoon.batch.infrastructure.repository.score.ScoreRepository;
+import com.zipsoon.batch.infrastructure.repository.source.SourceRepository;
 import com.zipsoon.common.domain.Estate;
 import com.zipsoon.common.domain.EstateScore;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.item.ItemProcessor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
-import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
+/**
+ * 매물 묶음의 점수를 계산하는 Processor
+ * 계산기마다 묶음 전체를 한 번에 계산하므로, 데이터베이스 조회는 매물 수가 아니라 계산기 수만큼 발생합니다.
+ * 계산기가 여러 개면 서로 독립적이므로 전용 스레드 풀({@link ScoreExecutorConfig})에서 동시에 실행하고,
+ * 결과는 계산기 등록 순서와 매물 순서대로 합칩니다.
+ * 점수 계산 입력(매물 좌표, 소스 데이터 버전)의 해시가 저장된 값과 같은 매물은 계산하지 않습니다.
+ */
 @Slf4j
 @Component
-@RequiredArgsConstructor
-public class ScoreProcessor implements ItemProcessor<Estate, List<EstateScore>> {
+public class ScoreProcessor implements ItemProcessor<List<Estate>, List<EstateScore>> {
     private final List<ScoreCalculator> calculators;
+    private final ScoreRepository scoreRepository;
+    private final SourceRepository sourceRepository;
+    private final Executor calculatorExecutor;
+
+    @Value("${score.incremental:true}")
+    private boolean incremental = true;
+
+    public ScoreProcessor(
+        List<ScoreCalculator> calculators,
+        ScoreRepository scoreRepository,
+        SourceRepository sourceRepository,
+        @Qualifier(ScoreExecutorConfig.SCORE_CALCULATOR_EXECUTOR) Executor calculatorExecutor
+    ) {
+        this.calculators = calculators;
+        this.scoreRepository = scoreRepository;
+        this.sourceRepository = sourceRepository;
+        this.calculatorExecutor = calculatorExecutor;
+    }
 
     @Override
-    public List<EstateScore> process(Estate estate) {
-        log.debug("[BATCH:STEP-PROCESSOR] 매물 ID {} 점수 계산 시작", estate.getId());
-        
-        List<EstateScore> scores = calculators.stream()
-            .map(calculator -> {
-                double rawScore = calculator.calculateRawScore(estate);
-                log.debug("[BATCH:STEP-PROCESSOR] 매물 ID {} - {} 점수: {}", 
+    public List<EstateScore> process(List<Estate> estates) {
+        log.debug("[BATCH:STEP-PROCESSOR] 매물 {}개 점수 계산 시작", estates.size());
+
+        // 계산기별 입력 해시와 다시 계산할 매물 (계산기 등록 순서)
+        List<Map<Long, Long>> inputHashesByCalculator = new ArrayList<>(calculators.size());
+        List<List<Estate>> targetsByCalculator = new ArrayList<>(calculators.size());
+        for (ScoreCalculator calculator : calculators) {
+            long sourceVersion = sourceRepository.findVersionSum(calculator.getSourceNames());
+            Map<Long, Long> inputHashes = new HashMap<>(estates.size() * 2);
+            for (Estate estate : estates) {
+                inputHashes.put(estate.getId(), calculator.inputHash(estate, sourceVersion));
+            }
+            inputHashesByCalculator.add(inputHashes);
+            targetsByCalculator.add(incremental ? changedEstates(calculator, estates, inputHashes) : estates);
+        }
+
+        List<Map<Long, Double>> rawScoresByCalculator = calculateAll(targetsByCalculator);
+
+        List<EstateScore> scores = new ArrayList<>(estates.size() * calculators.size());
+        for (int c = 0; c < calculators.size(); c++) {
+            ScoreCalculator calculator = calculators.get(c);
+            Map<Long, Double> rawScores = rawScoresByCalculator.get(c);
+            Map<Long, Long> inputHashes = inputHashesByCalculator.get(c);
+            for (Estate estate : targetsByCalculator.get(c)) {
+                double rawScore = rawScores.getOrDefault(estate.getId(), 0.0);
+                log.debug("[BATCH:STEP-PROCESSOR] 매물 ID {} - {} 점수: {}",
                         estate.getId(), calculator.getScoreId(), rawScore);
-                return EstateScore.of(
+                scores.add(EstateScore.of(
                     estate.getId(),
                     calculator.getScoreId(),
-                    rawScore
-                );
-            })
-            .toList();
-            
-        log.debug("[BATCH:STEP-PROCESSOR] 매물 ID {} 점수 계산 완료 - {}개 유형 처리됨", 
-                estate.getId(), scores.size());
+                    rawScore,
+                    inputHashes.get(estate.getId())
+                ));
+            }
+        }
+
+        log.debug("[BATCH:STEP-PROCESSOR] 매물 {}개 점수 계산 완료 - {}개 유형, {}개 점수 갱신 (나머지는 입력 변경 없음)",
+                estates.size(), calculators.size(), scores.size());
         return scores;
     }
+
+    // 저장된 입력 해시와 다른(또는 점수가 없는) 매물만 선택
+    private List<Estate> changedEstates(ScoreCalculator calculator, List<Estate> estates, Map<Long, Long> inputHashes) {
+        List<Long> estateIds = estates.stream().map(Estate::getId).toList();
+        Map<Long, Long> storedHashes = scoreRepository.findInputHashes(calculator.getScoreId(), estateIds);
+
+        List<Estate> changed = new ArrayList<>();
+        for (Estate estate : estates) {
+            if (!Objects.equals(storedHashes.get(estate.getId()), inputHashes.get(estate.getId()))) {
+                changed.add(estate);
+            }
+        }
+        return changed;
+    }
+
+    // 계산기별 원시 점수 (계산기 등록 순서, 계산할 매물이 없으면 계산기를 호출하지 않음)
+    private List<Map<Long, Double>> calculateAll(List<List<Estate>> targetsByCalculator) {
+        if (calculators.size() == 1) {
+            return List.of(calculate(calculators.get(0), targetsByCalculator.get(0)));
+        }
+        List<CompletableFuture<Map<Long, Double>>> futures = new ArrayList<>(calculators.size());
+        for (int c = 0; c < calculators.size(); c++) {
+            ScoreCalculator calculator = calculators.get(c);
+            List<Estate> targets = targetsByCalculator.get(c);
+            futures.add(targets.isEmpty()
+                ? CompletableFuture.completedFuture(Map.of())
+                : CompletableFuture.supplyAsync(() -> calculator.calculateRawScores(targets), calculatorExecutor));
+        }
+        return futures.stream()
+            .map(CompletableFuture::join)
+            .toList();
+    }
+
+    private static Map<Long, Double> calculate(ScoreCalculator calculator, List<Estate> targets) {
+        return targets.isEmpty() ? Map.of() : calculator.calculateRawScores(targets);
+    }
 }
@@ -4,37 +4,57 @@ import com.zipsoon.batch.infrastructure.repository.estate.BatchEstateRepository;
 import com.zipsoon.common.domain.Estate;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.item.ExecutionContext;
 import org.springframework.batch.item.ItemReader;
+import org.springframework.batch.item.ItemStream;
 import org.springframework.stereotype.Component;
 
-import java.util.Iterator;
 import java.util.List;
 
+/**
+ * 점수 계산 대상 매물을 묶음 단위로 읽는 Reader
+ * 계산기가 묶음 전체의 점수를 집합 단위 쿼리로 계산할 수 있도록 매물 목록 하나를 한 항목으로 반환합니다.
+ * 매물은 id 키셋으로 한 묶음씩 조회하므로 전체 매물 수와 관계없이 한 번에 한 묶음(id, 좌표)만 메모리에 올라갑니다.
+ * 각 묶음은 서로 겹치지 않는 id 구간이며, 여러 스레드가 동시에 호출할 수 있습니다.
+ * 싱글톤 빈이므로 Step이 시작될 때마다({@link #open}) 읽기 위치를 처음으로 되돌립니다.
+ */
 @Slf4j
 @Component
 @RequiredArgsConstructor
-public class ScoreReader implements ItemReader<Estate> {
+public class ScoreReader implements ItemReader<List<Estate>>, ItemStream {
+    static final int BATCH_SIZE = 500;
+
     private final BatchEstateRepository batchEstateRepository;
-    private Iterator<Estate> estatesIterator;
-    private boolean initialized = false;
-
-    private void initialize() {
-        if (!initialized) {
-            List<Estate> estates = batchEstateRepository.findAll();
-            this.estatesIterator = estates.iterator();
-            log.info("[BATCH:STEP-READER] 점수 계산을 위한 매물 {}개 로드됨", estates.size());
-            initialized = true;
-        }
+    private long lastId = 0L;
+    private long readCount = 0L;
+    private boolean exhausted = false;
+
+    @Override
+    public synchronized void open(ExecutionContext executionContext) {
+        lastId = 0L;
+        readCount = 0L;
+        exhausted = false;
     }
 
     @Override
-    public Estate read() {
-        initialize();
+    public synchronized List<Estate> read() {
+        if (exhausted) {
+            return null;
+        }
 
-        if (estatesIterator.hasNext()) {
-            return estatesIterator.next();
+        List<Estate> batch = batchEstateRepository.findScoringPage(lastId, BATCH_SIZE);
+        if (batch.isEmpty()) {
+            exhausted = true;
+            log.info("[BATCH:STEP-READER] 점수 계산을 위한 매물 {}개 조회 완료", readCount);
+            return null;
         }
-        return null;
-    }
 
+        lastId = batch.get(batch.size() - 1).getId();
+        readCount += batch.size();
+        if (batch.size() < BATCH_SIZE) {
+            exhausted = true;
+            log.info("[BATCH:STEP-READER] 점수 계산을 위한 매물 {}개 조회 완료", readCount);
+        }
+        return batch;
+    }
 }
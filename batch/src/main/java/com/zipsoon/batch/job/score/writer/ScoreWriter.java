@@ -8,14 +8,23 @@ import org.springframework.batch.item.Chunk;
 import org.springframework.batch.item.ItemWriter;
 import org.springframework.stereotype.Component;
 
-import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 
+/**
+ * 계산된 점수를 estate_score 테이블에 저장하는 Writer
+ * 여러 스레드의 청크가 동시에 저장되므로, 저장 전에 매물 ID와 점수 유형 ID 순으로 정렬해
+ * 실행 순서와 무관하게 같은 입력이면 같은 순서로 기록합니다.
+ */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class ScoreWriter implements ItemWriter<List<EstateScore>> {
+    private static final Comparator<EstateScore> SCORE_ORDER = Comparator
+        .comparing(EstateScore::getEstateId)
+        .thenComparing(EstateScore::getScoreTypeId);
+
     private final ScoreRepository scoreRepository;
 
     @Override
@@ -25,38 +34,17 @@ public class ScoreWriter implements ItemWriter<List<EstateScore>> {
                 .flatMap(List::stream)
                 .toList();
             
-            // 배치 스코어 모델을 새 모델로 변환
-            List<EstateScore> scores = convertToEstateScores(batchScores);
+            // 매물 ID, 점수 유형 ID 순으로 정렬 (Processor가 만든 점수를 그대로 저장해 입력 해시를 유지)
+            List<EstateScore> scores = new ArrayList<>(batchScores);
+            scores.sort(SCORE_ORDER);
             
-            // 최신 스코어 저장
+            // 최신 스코어 저장 (원시 점수가 바뀌는 기존 스코어는 스냅샷으로 이동)
             scoreRepository.saveAll(scores);
             
-            // 오래된 스코어는 스냅샷으로 이동
-            scoreRepository.migrateToScoreSnapshot();
-            
             log.info("[BATCH:STEP-WRITER] 점수 저장 완료: {}개", scores.size());
         } catch (Exception e) {
             log.error("[BATCH:STEP-ERR] 점수 저장 중 오류 발생: {}", e.getMessage(), e);
             throw new RuntimeException("점수 저장 실패: " + e.getMessage(), e);
         }
     }
-    
-    // 배치용 EstateScore 모델을 공통 모델로 변환
-    private List<EstateScore> convertToEstateScores(List<EstateScore> batchScores) {
-        List<EstateScore> scores = new ArrayList<>();
-        
-        for (EstateScore batchScore : batchScores) {
-            EstateScore score = EstateScore.builder()
-                .estateId(batchScore.getEstateId())
-                .scoreTypeId(batchScore.getScoreTypeId())
-                .rawScore(batchScore.getRawScore())
-                .normalizedScore(batchScore.getNormalizedScore())
-                .createdAt(batchScore.getCreatedAt() != null ? batchScore.getCreatedAt() : LocalDateTime.now())
-                .build();
-            
-            scores.add(score);
-        }
-        
-        return scores;
-    }
 }
\ No newline at end of file
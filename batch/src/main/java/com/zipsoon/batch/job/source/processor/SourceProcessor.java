@@ -1,23 +1,33 @@
 package com.zipsoon.batch.job.source.processor;
 
 import com.zipsoon.batch.application.service.source.collector.SourceCollector;
+import com.zipsoon.batch.infrastructure.repository.source.SourceRepository;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.item.ItemProcessor;
 import org.springframework.stereotype.Component;
 
+/**
+ * 변경된 소스 데이터를 다시 적재하는 Processor
+ * 다시 적재한 소스는 버전을 올려, 해당 소스를 사용하는 점수만 다음 점수 계산에서 재계산되도록 합니다.
+ */
 @Slf4j
 @Component
+@RequiredArgsConstructor
 public class SourceProcessor implements ItemProcessor<SourceCollector, SourceCollector> {
+    private final SourceRepository sourceRepository;
+
     @Override
     public SourceCollector process(SourceCollector collector) {
-        log.info("Source data not been changed; skipping data collection...");
         if (!collector.wasUpdated()) {
+            log.info("Source data not been changed; skipping data collection...");
             return collector;
         }
         log.info("Processing source data collection");
         collector.create();
         collector.collect();
         collector.preprocess();
+        sourceRepository.increaseVersion(collector.getSourceName());
         return collector;
     }
 }
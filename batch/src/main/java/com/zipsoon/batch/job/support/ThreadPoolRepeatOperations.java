@@ -0,0 +1,83 @@
+package com.zipsoon.batch.job.support;
+
+import org.springframework.batch.repeat.RepeatCallback;
+import org.springframework.batch.repeat.RepeatContext;
+import org.springframework.batch.repeat.RepeatException;
+import org.springframework.batch.repeat.RepeatOperations;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.batch.repeat.context.RepeatContextSupport;
+import org.springframework.batch.repeat.support.RepeatSynchronizationManager;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 다중 스레드 Step의 청크 반복 실행기
+ * 스레드 풀의 최대 스레드 수만큼 작업자를 띄워 각 작업자가 청크를 차례로 처리하므로,
+ * 동시 실행 수는 스레드 풀 크기로만 정해집니다. (deprecated된 {@code throttleLimit} 대체)
+ * 한 작업자가 입력 끝에 도달하거나 실패하면 나머지 작업자는 처리 중인 청크까지만 마치고 멈추며,
+ * 첫 번째 예외를 Step으로 다시 던집니다.
+ * 작업자가 스레드를 계속 점유하므로 전달한 스레드 풀은 이 Step 전용이어야 합니다.
+ */
+public class ThreadPoolRepeatOperations implements RepeatOperations {
+    private final ThreadPoolTaskExecutor taskExecutor;
+
+    public ThreadPoolRepeatOperations(ThreadPoolTaskExecutor taskExecutor) {
+        this.taskExecutor = taskExecutor;
+    }
+
+    @Override
+    public RepeatStatus iterate(RepeatCallback callback) throws RepeatException {
+        RepeatContext parent = RepeatSynchronizationManager.getContext();
+        AtomicBoolean finished = new AtomicBoolean(false);
+
+        int workers = taskExecutor.getMaxPoolSize();
+        List<CompletableFuture<Void>> futures = new ArrayList<>(workers);
+        for (int i = 0; i < workers; i++) {
+            futures.add(CompletableFuture.runAsync(() -> work(callback, parent, finished), taskExecutor));
+        }
+
+        Throwable failure = null;
+        for (CompletableFuture<Void> future : futures) {
+            try {
+                future.join();
+            } catch (CompletionException e) {
+                if (failure == null) {
+                    failure = e.getCause();
+                }
+            }
+        }
+
+        if (failure instanceof RuntimeException e) {
+            throw e;
+        }
+        if (failure instanceof Error e) {
+            throw e;
+        }
+        if (failure != null) {
+            throw new RepeatException("청크 반복 실행 중 오류 발생: " + failure.getMessage(), failure);
+        }
+        return RepeatStatus.FINISHED;
+    }
+
+    private void work(RepeatCallback callback, RepeatContext parent, AtomicBoolean finished) {
+        RepeatContext context = new RepeatContextSupport(parent);
+        RepeatSynchronizationManager.register(context);
+        try {
+            while (!finished.get() && !context.isCompleteOnly()) {
+                if (!callback.doInIteration(context).isContinuable()) {
+                    finished.set(true);
+                }
+            }
+        } catch (Throwable t) {
+            finished.set(true);
+            throw new CompletionException(t);
+        } finally {
+            RepeatSynchronizationManager.clear();
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.zipsoon.batch;
 
+import com.zipsoon.batch.application.service.estate.collector.DongEstates;
 import com.zipsoon.batch.job.estate.writer.EstateItemWriter;
 import com.zipsoon.batch.infrastructure.repository.estate.BatchEstateRepository;
 import com.zipsoon.batch.infrastructure.external.naver.NaverLandClient;
@@ -50,7 +51,7 @@ class BatchExceptionHandlerTest {
         doThrow(new DataIntegrityViolationException("Duplicate key"))
             .when(repository).saveAll(eq(snapshots));
 
-        assertThrows(IllegalArgumentException.class, () -> writer.write(new Chunk<>(List.of(snapshots))));
+        assertThrows(IllegalArgumentException.class, () -> writer.write(new Chunk<>(List.of(new DongEstates("1111018000", snapshots)))));
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,99 @@
+package com.zipsoon.batch;
+
+import com.zipsoon.batch.infrastructure.copy.CsvRecord;
+import com.zipsoon.common.domain.value.RawJson;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.GeometryFactory;
+
+import java.io.StringWriter;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CsvRecordTest {
+
+    @Test
+    @DisplayName("문자열은 따옴표로 감싸고 내부 따옴표는 두 번 기록하며, null은 빈 값으로 기록한다")
+    void shouldQuoteText_And_WriteNullAsEmpty() {
+        // given
+        CsvRecord record = new CsvRecord();
+
+        // when
+        record.text("래미안 \"퍼스티지\", 101동")
+            .text(null)
+            .text("")
+            .value(new BigDecimal("150000000.00"))
+            .value(null)
+            .value(LocalDateTime.of(2025, 1, 2, 3, 4, 5));
+
+        // then
+        assertEquals("\"래미안 \"\"퍼스티지\"\", 101동\",,\"\",150000000.00,,2025-01-02T03:04:05", record.toString());
+    }
+
+    @Test
+    @DisplayName("문자열 배열은 PostgreSQL 배열 리터럴로 기록한다")
+    void shouldWriteTextArrayLiteral() {
+        // given
+        CsvRecord record = new CsvRecord();
+
+        // when
+        record.textArray(Arrays.asList("역세권", "say \"hi\"", null))
+            .textArray(List.of())
+            .textArray(null);
+
+        // then
+        assertEquals("\"{\"\"역세권\"\",\"\"say \\\"\"hi\\\"\"\"\",NULL}\",\"{}\",", record.toString());
+    }
+
+    @Test
+    @DisplayName("좌표는 SRID를 포함한 EWKT로, JSON은 문자열로 기록한다")
+    void shouldWriteGeometryAsEwkt_And_JsonAsText() {
+        // given
+        CsvRecord record = new CsvRecord();
+        var point = new GeometryFactory().createPoint(new Coordinate(127.0276, 37.4979));
+
+        // when
+        record.geometry(point)
+            .json(RawJson.ofText("{\"a\":1}"));
+
+        // then
+        assertEquals("\"SRID=4326;POINT (127.0276 37.4979)\",\"{\"\"a\"\":1}\"", record.toString());
+    }
+
+    @Test
+    @DisplayName("DB에서 읽은 원본 JSON은 파싱하지 않고 그대로 기록한다")
+    void shouldWriteRawJsonWithoutParsing() {
+        // given
+        CsvRecord record = new CsvRecord();
+        RawJson rawJson = RawJson.ofText("{\"a\": 1}");
+
+        // when
+        record.json(rawJson).json((RawJson) null);
+
+        // then
+        assertEquals("\"{\"\"a\"\": 1}\",", record.toString());
+    }
+
+    @Test
+    @DisplayName("재사용 시 이전 행 내용을 지우고 행 끝에 줄바꿈을 기록한다")
+    void shouldResetBetweenRows() throws Exception {
+        // given
+        CsvRecord record = new CsvRecord();
+        StringWriter writer = new StringWriter();
+
+        // when
+        record.value(1).value(2);
+        record.writeTo(writer);
+        record.reset();
+        record.value(3);
+        record.writeTo(writer);
+
+        // then
+        assertEquals("1,2\n3\n", writer.toString());
+    }
+}
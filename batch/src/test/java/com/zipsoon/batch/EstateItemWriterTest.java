@@ -0,0 +1,69 @@
+package com.zipsoon.batch;
+
+import com.zipsoon.batch.application.service.estate.collector.DongEstates;
+import com.zipsoon.batch.infrastructure.repository.estate.BatchEstateRepository;
+import com.zipsoon.batch.job.estate.writer.EstateItemWriter;
+import com.zipsoon.common.domain.Estate;
+import com.zipsoon.common.domain.PlatformType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.item.Chunk;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+class EstateItemWriterTest {
+
+    private static final String DONG_CODE = "1111018000";
+
+    private BatchEstateRepository repository;
+    private EstateItemWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(BatchEstateRepository.class);
+        writer = new EstateItemWriter(repository);
+    }
+
+    @Test
+    @DisplayName("매물을 저장한 뒤 법정동을 수집 완료로 기록한다")
+    void shouldMarkDongCollected_After_SavingEstates() {
+        // given
+        List<Estate> estates = List.of(Estate.builder().platformType(PlatformType.네이버).platformId("1").build());
+
+        // when
+        writer.write(new Chunk<>(List.of(new DongEstates(DONG_CODE, estates))));
+
+        // then
+        var inOrder = inOrder(repository);
+        inOrder.verify(repository).saveAll(estates);
+        inOrder.verify(repository).markCollected(List.of(DONG_CODE));
+    }
+
+    @Test
+    @DisplayName("매물이 없는 법정동도 수집 완료로 기록해 내려간 매물을 삭제 표시할 수 있게 한다")
+    void shouldMarkDongCollected_When_NoEstates() {
+        // when
+        writer.write(new Chunk<>(List.of(new DongEstates(DONG_CODE, List.of()))));
+
+        // then
+        verify(repository, never()).saveAll(anyList());
+        verify(repository).markCollected(List.of(DONG_CODE));
+    }
+
+    @Test
+    @DisplayName("매물 저장에 실패한 법정동은 수집 완료로 기록하지 않는다")
+    void shouldNotMarkDongCollected_When_SaveFails() {
+        // given
+        List<Estate> estates = List.of(Estate.builder().platformType(PlatformType.네이버).platformId("1").build());
+        doThrow(new IllegalStateException("COPY 실패")).when(repository).saveAll(estates);
+
+        // when & then
+        assertThrows(RuntimeException.class, () -> writer.write(new Chunk<>(List.of(new DongEstates(DONG_CODE, estates)))));
+        verify(repository, never()).markCollected(anyList());
+    }
+}
@@ -0,0 +1,56 @@
+package com.zipsoon.batch;
+
+import com.zipsoon.batch.infrastructure.processor.score.index.GeoPointIndex;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GeoPointIndexTest {
+    private static final double ESTATE_LONGITUDE = 126.961692;
+    private static final double ESTATE_LATITUDE = 37.571797;
+
+    @Test
+    @DisplayName("반경 안의 지점만 집계하고 최근접 거리를 반환한다")
+    void shouldAggregatePointsWithinRadius() {
+        // given (약 40m, 약 450m, 약 1.1km 떨어진 지점)
+        GeoPointIndex index = new GeoPointIndex(
+            new double[]{126.9616546, 126.961692, 126.974},
+            new double[]{37.572146, 37.5758, 37.5718},
+            new double[]{1000.0, 2000.0, 5000.0}
+        );
+
+        // when
+        GeoPointIndex.RadiusStats stats = index.within(ESTATE_LONGITUDE, ESTATE_LATITUDE, 600.0);
+
+        // then
+        assertTrue(stats.hasPoint());
+        assertEquals(2, stats.count());
+        assertEquals(3000.0, stats.weightSum());
+        assertEquals(GeoPointIndex.distance(ESTATE_LONGITUDE, ESTATE_LATITUDE, 126.9616546, 37.572146),
+            stats.nearestDistance(), 1e-9);
+        assertTrue(stats.nearestDistance() < 50);
+    }
+
+    @Test
+    @DisplayName("반경 안에 지점이 없으면 빈 집계를 반환한다")
+    void shouldReturnEmptyStats_When_NoPointWithinRadius() {
+        // given
+        GeoPointIndex index = new GeoPointIndex(new double[]{127.1}, new double[]{37.4}, new double[]{1000.0});
+
+        // when
+        GeoPointIndex.RadiusStats stats = index.within(ESTATE_LONGITUDE, ESTATE_LATITUDE, 600.0);
+
+        // then
+        assertFalse(stats.hasPoint());
+        assertEquals(0.0, stats.weightSum());
+    }
+
+    @Test
+    @DisplayName("Haversine 거리는 위도 1도에 약 111km이다")
+    void shouldCalculateHaversineDistance() {
+        double distance = GeoPointIndex.distance(127.0, 37.0, 127.0, 38.0);
+
+        assertEquals(111_195, distance, 10);
+    }
+}
@@ -0,0 +1,90 @@
+package com.zipsoon.batch;
+
+import com.zipsoon.batch.application.service.estate.collector.EstatePage;
+import com.zipsoon.batch.infrastructure.external.naver.NaverLandApiException;
+import com.zipsoon.batch.infrastructure.external.naver.NaverLandClient;
+import com.zipsoon.batch.infrastructure.external.naver.util.NaverLandResponseMatcher;
+import com.zipsoon.batch.infrastructure.external.naver.vo.NaverLandResponseVO;
+import com.zipsoon.batch.infrastructure.processor.estate.collector.NaverEstateCollector;
+import com.zipsoon.batch.job.estate.processor.EstateItemProcessor;
+import com.zipsoon.common.domain.Estate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class NaverEstateCollectorTest {
+
+    private static final String DONG_CODE = "1111018000";
+
+    private NaverLandClient naverLandClient;
+    private NaverEstateCollector collector;
+
+    @BeforeEach
+    void setUp() {
+        naverLandClient = mock(NaverLandClient.class);
+        NaverLandResponseMatcher matcher = mock(NaverLandResponseMatcher.class);
+        when(matcher.toEstate(any(), eq(DONG_CODE))).thenAnswer(invocation -> Estate.builder().build());
+        collector = new NaverEstateCollector(naverLandClient, matcher);
+    }
+
+    private NaverLandResponseVO response(boolean isMoreData, int articleCount) {
+        return new NaverLandResponseVO(isMoreData, DONG_CODE, new NaverLandResponseVO.NaverLandResponseArticle[articleCount]);
+    }
+
+    @Test
+    @DisplayName("페이지마다 API를 한 번만 호출하고 마지막 페이지의 매물까지 수집한다")
+    void shouldCallApiOncePerPage_And_IncludeLastPage() {
+        // given
+        when(naverLandClient.get(DONG_CODE, 1)).thenReturn(response(true, 2));
+        when(naverLandClient.get(DONG_CODE, 2)).thenReturn(response(true, 2));
+        when(naverLandClient.get(DONG_CODE, 3)).thenReturn(response(false, 1));
+
+        // when
+        List<Estate> estates = new EstateItemProcessor(collector).process(DONG_CODE).estates();
+
+        // then
+        assertEquals(5, estates.size());
+        verify(naverLandClient, times(1)).get(DONG_CODE, 1);
+        verify(naverLandClient, times(1)).get(DONG_CODE, 2);
+        verify(naverLandClient, times(1)).get(DONG_CODE, 3);
+        verify(naverLandClient, never()).get(DONG_CODE, 4);
+    }
+
+    @Test
+    @DisplayName("응답 본문이 없으면 빈 마지막 페이지로 수집을 종료한다")
+    void shouldStop_When_ResponseIsEmpty() {
+        // given
+        when(naverLandClient.get(anyString(), anyInt())).thenReturn(null);
+
+        // when
+        List<EstatePage> pages = collector.pages(DONG_CODE).toList();
+
+        // then
+        assertEquals(1, pages.size());
+        assertFalse(pages.get(0).hasMore());
+        assertTrue(pages.get(0).estates().isEmpty());
+        verify(naverLandClient, times(1)).get(anyString(), anyInt());
+    }
+
+    @Test
+    @DisplayName("페이지 요청이 실패하면 법정동 수집을 마친 것으로 처리하지 않고 예외를 전달한다")
+    void shouldFail_When_PageRequestFails() {
+        // given
+        when(naverLandClient.get(DONG_CODE, 1)).thenReturn(response(true, 2));
+        when(naverLandClient.get(DONG_CODE, 2)).thenThrow(new NaverLandApiException(DONG_CODE, 2, new RuntimeException("timeout")));
+
+        // when & then
+        EstateItemProcessor processor = new EstateItemProcessor(collector);
+        assertThrows(NaverLandApiException.class, () -> processor.process(DONG_CODE));
+        verify(naverLandClient, never()).get(DONG_CODE, 3);
+    }
+}
@@ -0,0 +1,104 @@
+package com.zipsoon.batch;
+
+import com.zipsoon.batch.infrastructure.external.naver.NaverLandApiException;
+import com.zipsoon.batch.infrastructure.external.naver.NaverLandClient;
+import com.zipsoon.batch.infrastructure.external.naver.NaverLandRateLimiter;
+import com.zipsoon.batch.infrastructure.external.naver.vo.NaverLandResponseVO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class NaverLandClientTest {
+
+    private static final String DONG_CODE = "1111018000";
+
+    private RestTemplate restTemplate;
+    private NaverLandRateLimiter rateLimiter;
+    private NaverLandClient client;
+
+    @BeforeEach
+    void setUp() {
+        restTemplate = mock(RestTemplate.class);
+        rateLimiter = mock(NaverLandRateLimiter.class);
+        client = new NaverLandClient(restTemplate, rateLimiter);
+        ReflectionTestUtils.setField(client, "baseUrl", "https://new.land.naver.com/api");
+        ReflectionTestUtils.setField(client, "authToken", "token");
+    }
+
+    private void respondTooManyRequests(String retryAfter) {
+        HttpHeaders headers = new HttpHeaders();
+        if (retryAfter != null) {
+            headers.set("Retry-After", retryAfter);
+        }
+        when(restTemplate.exchange(anyString(), eq(HttpMethod.GET), any(HttpEntity.class), eq(NaverLandResponseVO.class)))
+            .thenThrow(HttpClientErrorException.create(HttpStatus.TOO_MANY_REQUESTS, "Too Many Requests", headers, null, null));
+    }
+
+    @Test
+    @DisplayName("429 응답은 Retry-After만큼 요청을 멈추고 재시도 대상 예외로 던진다")
+    void shouldPauseAndRetry_When_TooManyRequests() {
+        // given
+        respondTooManyRequests("3");
+
+        // when
+        RestClientException e = assertThrows(RestClientException.class, () -> client.get(DONG_CODE, 1));
+
+        // then (4xx는 재시도하지 않으므로 HttpClientErrorException이 아니어야 함)
+        assertFalse(e instanceof HttpClientErrorException);
+        verify(rateLimiter).pause(Duration.ofSeconds(3));
+    }
+
+    @Test
+    @DisplayName("Retry-After가 최대 대기 시간보다 길면 최대 대기 시간만큼만 멈춘다")
+    void shouldCapRetryAfter() {
+        // given
+        respondTooManyRequests("3600");
+
+        // when
+        assertThrows(RestClientException.class, () -> client.get(DONG_CODE, 1));
+
+        // then
+        verify(rateLimiter).pause(Duration.ofMillis(60000));
+    }
+
+    @Test
+    @DisplayName("Retry-After가 없으면 재시도 백오프만 적용한다")
+    void shouldNotPause_When_RetryAfterMissing() {
+        // given
+        respondTooManyRequests(null);
+
+        // when
+        assertThrows(RestClientException.class, () -> client.get(DONG_CODE, 1));
+
+        // then
+        verify(rateLimiter).pause(Duration.ZERO);
+    }
+
+    @Test
+    @DisplayName("재시도를 모두 소진하면 빈 응답 대신 실패 예외를 던진다")
+    void shouldThrow_When_RetriesExhausted() {
+        // when
+        NaverLandApiException e = assertThrows(NaverLandApiException.class,
+            () -> client.recover(new RestClientException("timeout"), DONG_CODE, 3));
+
+        // then
+        assertEquals(DONG_CODE, e.getCortarNo());
+        assertEquals(3, e.getPage());
+    }
+}
@@ -0,0 +1,138 @@
+package com.zipsoon.batch;
+
+import com.zipsoon.batch.infrastructure.external.naver.NaverLandRateLimiter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NaverLandRateLimiterTest {
+
+    // 초당 20건 = 50ms 간격
+    private static final long INTERVAL_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+
+    /**
+     * 가짜 시간: 대기 시간을 기록하고, advanceOnSleep이면 대기한 만큼 시간을 진행시킴
+     */
+    private static class FakeTicker implements NaverLandRateLimiter.Ticker {
+        private final boolean advanceOnSleep;
+        private final List<Long> sleeps = new ArrayList<>();
+        private long now = 1_000_000_000L;
+
+        FakeTicker(boolean advanceOnSleep) {
+            this.advanceOnSleep = advanceOnSleep;
+        }
+
+        @Override
+        public long nanoTime() {
+            return now;
+        }
+
+        @Override
+        public void sleepNanos(long nanos) {
+            sleeps.add(nanos);
+            if (advanceOnSleep) {
+                now += nanos;
+            }
+        }
+
+        void advance(long nanos) {
+            now += nanos;
+        }
+    }
+
+    private static void assertNanos(long expected, long actual) {
+        // 부동소수점 계산과 올림으로 몇 ns 차이가 날 수 있음
+        assertTrue(Math.abs(expected - actual) <= 2, "expected " + expected + "ns but was " + actual + "ns");
+    }
+
+    @Test
+    @DisplayName("버킷 크기만큼은 대기 없이 요청하고, 이후 요청은 초당 허용 수에 맞춰 대기한다")
+    void shouldThrottle_When_BurstExhausted() {
+        // given
+        FakeTicker ticker = new FakeTicker(true);
+        NaverLandRateLimiter rateLimiter = new NaverLandRateLimiter(20, 2, ticker);
+
+        // when
+        rateLimiter.acquire();
+        rateLimiter.acquire();
+        int burstSleeps = ticker.sleeps.size();
+        for (int i = 0; i < 4; i++) {
+            rateLimiter.acquire();
+        }
+
+        // then
+        assertEquals(0, burstSleeps);
+        assertEquals(4, ticker.sleeps.size());
+        ticker.sleeps.forEach(sleep -> assertNanos(INTERVAL_NANOS, sleep));
+    }
+
+    @Test
+    @DisplayName("대기 중인 요청이 있으면 다음 요청은 그 뒤 시점을 예약해, 여러 스레드가 공유해도 전체 요청 속도가 제한된다")
+    void shouldQueueReservations_When_RequestsOverlap() {
+        // given (시간이 흐르지 않는 동안 여러 요청이 겹쳐 들어온 상황)
+        FakeTicker ticker = new FakeTicker(false);
+        NaverLandRateLimiter rateLimiter = new NaverLandRateLimiter(20, 1, ticker);
+
+        // when
+        for (int i = 0; i < 4; i++) {
+            rateLimiter.acquire();
+        }
+
+        // then (첫 요청은 즉시, 이후 요청은 50ms씩 뒤로 예약)
+        assertEquals(3, ticker.sleeps.size());
+        assertNanos(INTERVAL_NANOS, ticker.sleeps.get(0));
+        assertNanos(2 * INTERVAL_NANOS, ticker.sleeps.get(1));
+        assertNanos(3 * INTERVAL_NANOS, ticker.sleeps.get(2));
+    }
+
+    @Test
+    @DisplayName("쉬는 동안 쌓인 토큰은 버킷 크기를 넘지 않는다")
+    void shouldCapRefill_At_Burst() {
+        // given
+        FakeTicker ticker = new FakeTicker(true);
+        NaverLandRateLimiter rateLimiter = new NaverLandRateLimiter(20, 2, ticker);
+        rateLimiter.acquire();
+        rateLimiter.acquire();
+
+        // when (10초 휴식 = 200개 분량이지만 버킷은 2개)
+        ticker.advance(TimeUnit.SECONDS.toNanos(10));
+        rateLimiter.acquire();
+        rateLimiter.acquire();
+        rateLimiter.acquire();
+
+        // then
+        assertEquals(1, ticker.sleeps.size());
+        assertNanos(INTERVAL_NANOS, ticker.sleeps.get(0));
+    }
+
+    @Test
+    @DisplayName("요청 제한 응답을 받으면 남은 토큰과 관계없이 다음 요청을 주어진 시간 뒤로 미룬다")
+    void shouldDelayNextRequest_When_Paused() {
+        // given
+        FakeTicker ticker = new FakeTicker(true);
+        NaverLandRateLimiter rateLimiter = new NaverLandRateLimiter(20, 5, ticker);
+
+        // when
+        rateLimiter.pause(Duration.ofSeconds(2));
+        rateLimiter.acquire();
+        rateLimiter.acquire();
+
+        // then (멈춘 뒤에는 버킷이 비어 있으므로 다음 요청은 초당 허용 수에 맞춰 대기)
+        assertEquals(2, ticker.sleeps.size());
+        assertNanos(TimeUnit.SECONDS.toNanos(2), ticker.sleeps.get(0));
+        assertNanos(INTERVAL_NANOS, ticker.sleeps.get(1));
+    }
+
+    @Test
+    @DisplayName("0 이하의 설정값은 허용하지 않는다")
+    void shouldRejectInvalidSettings() {
+        assertThrows(IllegalArgumentException.class, () -> new NaverLandRateLimiter(0, 1));
+        assertThrows(IllegalArgumentException.class, () -> new NaverLandRateLimiter(1, 0));
+    }
+}
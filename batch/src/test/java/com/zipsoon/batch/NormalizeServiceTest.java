@@ -2,6 +2,7 @@ package com.zipsoon.batch;
 
 import com.zipsoon.batch.job.normalize.writer.NormalizeWriter;
 import com.zipsoon.batch.application.service.normalize.normalizer.ScoreNormalizer;
+import com.zipsoon.batch.infrastructure.processor.normalize.normalizer.LinearScoreNormalizer;
 import com.zipsoon.batch.infrastructure.repository.normalize.NormalizeRepository;
 import com.zipsoon.batch.application.service.score.calculator.ScoreCalculator;
 import com.zipsoon.common.domain.score.ScoreType;
@@ -10,10 +11,14 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.batch.item.Chunk;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import java.math.BigDecimal;
 import java.util.Arrays;
 import java.util.List;
+import java.util.function.DoubleUnaryOperator;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.Mockito.*;
 
 class NormalizeServiceTest {
@@ -50,15 +55,65 @@ class NormalizeServiceTest {
             EstateScore.builder().id(2L).scoreTypeId(1L).rawScore(7.0).build()
         );
 
-        when(normalizeRepository.findByScoreTypeId(1L)).thenReturn(scores);
-        when(mockNormalizer.normalize(eq(3.0), anyList())).thenReturn(2.5);
-        when(mockNormalizer.normalize(eq(7.0), anyList())).thenReturn(8.5);
+        when(normalizeRepository.findRawScores(1L)).thenReturn(new double[]{3.0, 7.0});
+        when(normalizeRepository.findPageByScoreTypeId(eq(1L), eq(0L), anyInt())).thenReturn(scores);
+        when(mockNormalizer.fit(any(double[].class))).thenReturn(rawScore -> rawScore == 3.0 ? 2.5 : 8.5);
 
         // when
         normalizeWriter.write(new Chunk<>(List.of(scoreType)));
 
         // then
-        verify(normalizeRepository).updateNormalizedScores(eq(1L), argThat(map -> map.size() == 2));
+        verify(mockNormalizer, times(1)).fit(any(double[].class));
+        verify(normalizeRepository).updateNormalizedScores(
+            aryEq(new Long[]{1L, 2L}),
+            aryEq(new BigDecimal[]{BigDecimal.valueOf(2.5), BigDecimal.valueOf(8.5)}));
+    }
+
+    @Test
+    @DisplayName("점수는 id 기준 페이지 단위로 읽고 페이지마다 갱신한다")
+    void normalizationUpdatesScoresPageByPage() {
+        // given
+        ScoreType scoreType = ScoreType.builder()
+            .id(1L)
+            .name("테스트 점수")
+            .active(true)
+            .build();
+        ReflectionTestUtils.setField(normalizeWriter, "pageSize", 2);
+
+        when(normalizeRepository.findRawScores(1L)).thenReturn(new double[]{1.0, 2.0, 3.0});
+        when(normalizeRepository.findPageByScoreTypeId(1L, 0L, 2)).thenReturn(List.of(
+            EstateScore.builder().id(10L).scoreTypeId(1L).rawScore(1.0).build(),
+            EstateScore.builder().id(11L).scoreTypeId(1L).rawScore(2.0).build()
+        ));
+        when(normalizeRepository.findPageByScoreTypeId(1L, 11L, 2)).thenReturn(List.of(
+            EstateScore.builder().id(12L).scoreTypeId(1L).rawScore(3.0).build()
+        ));
+        when(mockNormalizer.fit(any(double[].class))).thenReturn(rawScore -> rawScore);
+
+        // when
+        normalizeWriter.write(new Chunk<>(List.of(scoreType)));
+
+        // then
+        verify(mockNormalizer, times(1)).fit(any(double[].class));
+        verify(normalizeRepository).updateNormalizedScores(aryEq(new Long[]{10L, 11L}), any(BigDecimal[].class));
+        verify(normalizeRepository).updateNormalizedScores(aryEq(new Long[]{12L}), any(BigDecimal[].class));
+        verify(normalizeRepository, never()).findPageByScoreTypeId(1L, 12L, 2);
+    }
+
+    @Test
+    @DisplayName("선형 정규화는 최솟값을 1점, 최댓값을 10점으로 변환한다")
+    void linearNormalizerMapsRangeToScoreScale() {
+        // given
+        LinearScoreNormalizer normalizer = new LinearScoreNormalizer();
+
+        // when
+        DoubleUnaryOperator normalize = normalizer.fit(new double[]{2.0, 4.0, 6.0});
+
+        // then
+        assertEquals(1.0, normalize.applyAsDouble(2.0));
+        assertEquals(5.5, normalize.applyAsDouble(4.0));
+        assertEquals(10.0, normalize.applyAsDouble(6.0));
+        assertEquals(5.0, normalizer.fit(new double[]{3.0, 3.0}).applyAsDouble(3.0));
     }
 
     @Test
@@ -84,8 +139,8 @@ class NormalizeServiceTest {
         writer.write(new Chunk<>(List.of(scoreType)));
 
         // then
-        verify(normalizeRepository, never()).findByScoreTypeId(2L);
-        verify(normalizeRepository, never()).updateNormalizedScores(eq(2L), anyMap());
+        verify(normalizeRepository, never()).findRawScores(2L);
+        verify(normalizeRepository, never()).updateNormalizedScores(any(), any());
     }
 
     @Test
@@ -98,13 +153,13 @@ class NormalizeServiceTest {
             .active(true)
             .build();
 
-        when(normalizeRepository.findByScoreTypeId(1L)).thenReturn(List.of());
+        when(normalizeRepository.findRawScores(1L)).thenReturn(new double[0]);
 
         // when
         normalizeWriter.write(new Chunk<>(List.of(scoreType)));
 
         // then
-        verify(normalizeRepository).findByScoreTypeId(1L);
-        verify(normalizeRepository, never()).updateNormalizedScores(eq(1L), anyMap());
+        verify(normalizeRepository).findRawScores(1L);
+        verify(normalizeRepository, never()).updateNormalizedScores(any(), any());
     }
 }
\ No newline at end of file
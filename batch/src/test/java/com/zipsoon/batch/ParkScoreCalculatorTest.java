@@ -1,5 +1,6 @@
 package com.zipsoon.batch;
 
+import com.zipsoon.batch.domain.source.NearbyParkStats;
 import com.zipsoon.batch.domain.source.Park;
 import com.zipsoon.batch.infrastructure.processor.score.calculator.ParkScoreCalculator;
 import com.zipsoon.batch.infrastructure.repository.score.ParkScoreRepository;
@@ -12,11 +13,16 @@ import org.locationtech.jts.geom.GeometryFactory;
 import org.locationtech.jts.geom.Point;
 
 import java.util.List;
+import java.util.Map;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class ParkScoreCalculatorTest {
@@ -74,12 +80,43 @@ class ParkScoreCalculatorTest {
             .isLessThanOrEqualTo(10.0);
     }
 
+    @Test
+    @DisplayName("여러 매물의 점수는 주변 공원 집계를 한 번만 조회해 계산한다")
+    void shouldCalculateScoresWithSingleQuery_When_Bulk() {
+        // given
+        Estate nearPark = createEstate(1L, ESTATE_LONGITUDE, ESTATE_LATITUDE);
+        Estate farFromPark = createEstate(2L, ESTATE_LONGITUDE, ESTATE_LATITUDE);
+        when(parkScoreRepository.findNearbyParkStats(List.of(1L, 2L), 600.0))
+            .thenReturn(List.of(
+                new NearbyParkStats(1L, 40.0, 3000.0),
+                new NearbyParkStats(2L, null, 0.0)
+            ));
+
+        // when
+        Map<Long, Double> scores = parkScoreCalculator.calculateRawScores(List.of(nearPark, farFromPark));
+
+        // then
+        assertThat(scores.get(1L))
+            .isGreaterThan(0.0)
+            .isLessThanOrEqualTo(10.0);
+        assertThat(scores.get(2L)).isZero();
+        verify(parkScoreRepository, times(1)).findNearbyParkStats(anyList(), eq(600.0));
+        verify(parkScoreRepository, never()).findParksWithin(any(Point.class), eq(600.0));
+    }
+
     private Estate createEstate(double longitude, double latitude) {
         return Estate.builder()
             .location(geometryFactory.createPoint(new Coordinate(longitude, latitude)))
             .build();
     }
 
+    private Estate createEstate(Long id, double longitude, double latitude) {
+        return Estate.builder()
+            .id(id)
+            .location(geometryFactory.createPoint(new Coordinate(longitude, latitude)))
+            .build();
+    }
+
     private Park createPark(String id, String name, double longitude, double latitude, double area) {
         return Park.builder()
             .id(id)
@@ -0,0 +1,121 @@
+package com.zipsoon.batch;
+
+import com.zipsoon.batch.application.pipeline.PipelineDagExecutor;
+import com.zipsoon.batch.application.pipeline.PipelineStepResult;
+import com.zipsoon.batch.application.pipeline.step.PipelineStep;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PipelineDagExecutorTest {
+
+    private record TestStep(String name, List<String> dependencies, BooleanSupplier action) implements PipelineStep {
+        @Override
+        public boolean execute() {
+            return action.getAsBoolean();
+        }
+
+        @Override
+        public String getStepName() {
+            return name;
+        }
+
+        @Override
+        public List<String> getDependencies() {
+            return dependencies;
+        }
+    }
+
+    @Test
+    @DisplayName("서로 의존하지 않는 단계는 동시에 실행한다")
+    void shouldRunIndependentStepsConcurrently() {
+        // given (두 단계가 서로의 시작을 기다리므로 동시에 실행되어야만 성공)
+        CountDownLatch bothStarted = new CountDownLatch(2);
+        BooleanSupplier awaitOther = () -> {
+            bothStarted.countDown();
+            try {
+                return bothStarted.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        };
+        PipelineDagExecutor executor = new PipelineDagExecutor(2);
+
+        // when
+        List<PipelineStepResult> results = executor.execute(List.of(
+            new TestStep("ESTATE", List.of(), awaitOther),
+            new TestStep("SOURCE", List.of(), awaitOther)
+        ));
+
+        // then
+        assertEquals(2, results.size());
+        assertTrue(results.stream().allMatch(PipelineStepResult::success));
+    }
+
+    @Test
+    @DisplayName("선행 단계가 모두 끝난 뒤 실행하며, 선행 단계가 실패해도 후속 단계는 실행한다")
+    void shouldRunAfterInputs_EvenIfInputFailed() {
+        // given
+        Queue<String> finished = new ConcurrentLinkedQueue<>();
+        PipelineDagExecutor executor = new PipelineDagExecutor(2);
+
+        // when (입력 순서와 무관하게 의존 관계대로 실행)
+        List<PipelineStepResult> results = executor.execute(List.of(
+            new TestStep("NORMALIZE", List.of("SCORE"), () -> finished.add("NORMALIZE")),
+            new TestStep("SCORE", List.of("ESTATE", "SOURCE"), () -> finished.add("SCORE")),
+            new TestStep("ESTATE", List.of(), () -> {
+                finished.add("ESTATE");
+                return false;
+            }),
+            new TestStep("SOURCE", List.of(), () -> finished.add("SOURCE"))
+        ));
+
+        // then
+        List<String> order = List.copyOf(finished);
+        assertEquals(4, order.size());
+        assertEquals(List.of("SCORE", "NORMALIZE"), order.subList(2, 4));
+        assertEquals(List.of("NORMALIZE", "SCORE", "ESTATE", "SOURCE"),
+            results.stream().map(PipelineStepResult::stepName).toList());
+        assertFalse(results.get(2).success());
+        assertTrue(results.get(0).startOffsetMs() >= results.get(1).endOffsetMs());
+    }
+
+    @Test
+    @DisplayName("실행 대상에 없는 선행 단계는 끝난 것으로 간주한다")
+    void shouldIgnoreDependencyOutsideRun() {
+        // given
+        PipelineDagExecutor executor = new PipelineDagExecutor(1);
+
+        // when
+        List<PipelineStepResult> results = executor.execute(List.of(
+            new TestStep("NORMALIZE", List.of("SCORE"), () -> true)
+        ));
+
+        // then
+        assertEquals(1, results.size());
+        assertTrue(results.get(0).success());
+    }
+
+    @Test
+    @DisplayName("의존 관계에 순환이 있으면 실행하지 않는다")
+    void shouldReject_When_DependenciesAreCyclic() {
+        // given
+        PipelineDagExecutor executor = new PipelineDagExecutor(2);
+        List<PipelineStep> steps = List.of(
+            new TestStep("A", List.of("B"), () -> true),
+            new TestStep("B", List.of("A"), () -> true)
+        );
+
+        // when & then
+        assertThrows(IllegalStateException.class, () -> executor.execute(steps));
+    }
+}
@@ -0,0 +1,161 @@
+package com.zipsoon.batch;
+
+import com.zipsoon.batch.application.service.score.calculator.ScoreCalculator;
+import com.zipsoon.batch.application.service.score.calculator.ScoreInputHash;
+import com.zipsoon.batch.infrastructure.repository.score.ScoreRepository;
+import com.zipsoon.batch.infrastructure.repository.source.SourceRepository;
+import com.zipsoon.batch.job.score.processor.ScoreProcessor;
+import com.zipsoon.common.domain.Estate;
+import com.zipsoon.common.domain.EstateScore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.PrecisionModel;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+class ScoreProcessorTest {
+
+    private static final Long SCORE_TYPE_ID = 1L;
+    private static final long SOURCE_VERSION = 3L;
+    private static final GeometryFactory GEOMETRY_FACTORY = new GeometryFactory(new PrecisionModel(), 4326);
+
+    private ScoreCalculator calculator;
+    private ScoreRepository scoreRepository;
+    private ScoreProcessor processor;
+
+    private final Estate unchanged = estate(1L, 127.0276, 37.4979);
+    private final Estate moved = estate(2L, 127.0300, 37.5000);
+    private final Estate added = estate(3L, 127.0400, 37.5100);
+
+    private static Estate estate(Long id, double lng, double lat) {
+        return Estate.builder()
+            .id(id)
+            .location(GEOMETRY_FACTORY.createPoint(new Coordinate(lng, lat)))
+            .build();
+    }
+
+    @BeforeEach
+    void setUp() {
+        calculator = mock(ScoreCalculator.class);
+        when(calculator.getScoreId()).thenReturn(SCORE_TYPE_ID);
+        when(calculator.getSourceNames()).thenReturn(List.of("parks"));
+        when(calculator.inputHash(any(Estate.class), anyLong())).thenCallRealMethod();
+
+        SourceRepository sourceRepository = mock(SourceRepository.class);
+        when(sourceRepository.findVersionSum(List.of("parks"))).thenReturn(SOURCE_VERSION);
+
+        scoreRepository = mock(ScoreRepository.class);
+        processor = new ScoreProcessor(List.of(calculator), scoreRepository, sourceRepository, Runnable::run);
+    }
+
+    @Test
+    @DisplayName("입력 해시가 저장된 값과 같은 매물은 계산하지 않고, 바뀌었거나 점수가 없는 매물만 계산한다")
+    void shouldCalculateOnlyChangedEstates() {
+        // given (moved는 이전 좌표로 계산된 해시가 저장되어 있음)
+        when(scoreRepository.findInputHashes(eq(SCORE_TYPE_ID), anyList())).thenReturn(Map.of(
+            1L, ScoreInputHash.of(unchanged, SOURCE_VERSION),
+            2L, ScoreInputHash.of(estate(2L, 127.0, 37.0), SOURCE_VERSION)
+        ));
+        when(calculator.calculateRawScores(List.of(moved, added))).thenReturn(Map.of(2L, 5.0, 3L, 7.0));
+
+        // when
+        List<EstateScore> scores = processor.process(List.of(unchanged, moved, added));
+
+        // then
+        assertEquals(List.of(2L, 3L), scores.stream().map(EstateScore::getEstateId).toList());
+        assertEquals(5.0, scores.get(0).getRawScore());
+        assertEquals(ScoreInputHash.of(moved, SOURCE_VERSION), scores.get(0).getInputHash());
+        verify(calculator, times(1)).calculateRawScores(List.of(moved, added));
+    }
+
+    @Test
+    @DisplayName("소스 데이터 버전이 바뀌면 좌표가 같은 매물도 다시 계산한다")
+    void shouldRecalculate_When_SourceVersionChanged() {
+        // given (모든 매물이 이전 소스 버전으로 계산됨)
+        when(scoreRepository.findInputHashes(eq(SCORE_TYPE_ID), anyList())).thenReturn(Map.of(
+            1L, ScoreInputHash.of(unchanged, SOURCE_VERSION - 1)
+        ));
+        when(calculator.calculateRawScores(List.of(unchanged))).thenReturn(Map.of(1L, 4.0));
+
+        // when
+        List<EstateScore> scores = processor.process(List.of(unchanged));
+
+        // then
+        assertEquals(1, scores.size());
+        assertEquals(ScoreInputHash.of(unchanged, SOURCE_VERSION), scores.get(0).getInputHash());
+    }
+
+    @Test
+    @DisplayName("입력이 모두 그대로면 계산기를 호출하지 않는다")
+    void shouldSkipCalculator_When_NothingChanged() {
+        // given
+        when(scoreRepository.findInputHashes(eq(SCORE_TYPE_ID), anyList())).thenReturn(Map.of(
+            1L, ScoreInputHash.of(unchanged, SOURCE_VERSION)
+        ));
+
+        // when
+        List<EstateScore> scores = processor.process(List.of(unchanged));
+
+        // then
+        assertTrue(scores.isEmpty());
+        verify(calculator, never()).calculateRawScores(anyList());
+    }
+
+    @Test
+    @DisplayName("증분 계산을 끄면 저장된 해시를 조회하지 않고 모든 매물을 계산한다")
+    void shouldCalculateAll_When_IncrementalDisabled() {
+        // given
+        ReflectionTestUtils.setField(processor, "incremental", false);
+        when(calculator.calculateRawScores(List.of(unchanged, moved))).thenReturn(Map.of(1L, 1.0, 2L, 2.0));
+
+        // when
+        List<EstateScore> scores = processor.process(List.of(unchanged, moved));
+
+        // then
+        assertEquals(2, scores.size());
+        verify(scoreRepository, never()).findInputHashes(any(), anyList());
+    }
+
+    @Test
+    @DisplayName("계산기가 여러 개면 주입된 전용 실행기에서 계산기별로 동시에 실행하고, 결과는 계산기 등록 순서로 합친다")
+    void shouldRunCalculatorsOnInjectedExecutor() {
+        // given
+        ScoreCalculator other = mock(ScoreCalculator.class);
+        when(other.getScoreId()).thenReturn(2L);
+        when(other.getSourceNames()).thenReturn(List.of("parks"));
+        when(other.inputHash(any(Estate.class), anyLong())).thenCallRealMethod();
+        when(calculator.calculateRawScores(List.of(added))).thenReturn(Map.of(3L, 1.0));
+        when(other.calculateRawScores(List.of(added))).thenReturn(Map.of(3L, 2.0));
+        when(scoreRepository.findInputHashes(any(), anyList())).thenReturn(Map.of());
+
+        AtomicInteger submitted = new AtomicInteger();
+        Executor executor = command -> {
+            submitted.incrementAndGet();
+            command.run();
+        };
+        SourceRepository sourceRepository = mock(SourceRepository.class);
+        when(sourceRepository.findVersionSum(List.of("parks"))).thenReturn(SOURCE_VERSION);
+        ScoreProcessor multi = new ScoreProcessor(List.of(calculator, other), scoreRepository, sourceRepository, executor);
+
+        // when
+        List<EstateScore> scores = multi.process(List.of(added));
+
+        // then
+        assertEquals(2, submitted.get());
+        assertEquals(List.of(SCORE_TYPE_ID, 2L), scores.stream().map(EstateScore::getScoreTypeId).toList());
+        assertEquals(List.of(1.0, 2.0), scores.stream().map(EstateScore::getRawScore).toList());
+    }
+}
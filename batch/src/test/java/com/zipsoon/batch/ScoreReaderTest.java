@@ -0,0 +1,87 @@
+package com.zipsoon.batch;
+
+import com.zipsoon.batch.infrastructure.repository.estate.BatchEstateRepository;
+import com.zipsoon.batch.job.score.reader.ScoreReader;
+import com.zipsoon.common.domain.Estate;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.item.ExecutionContext;
+
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+class ScoreReaderTest {
+
+    private static List<Estate> estates(long fromId, long toId) {
+        return LongStream.rangeClosed(fromId, toId)
+            .mapToObj(id -> Estate.builder().id(id).build())
+            .toList();
+    }
+
+    @Test
+    @DisplayName("이전 묶음의 마지막 id 이후부터 다음 묶음을 조회한다")
+    void shouldReadNextPage_AfterLastId() {
+        // given
+        BatchEstateRepository repository = mock(BatchEstateRepository.class);
+        when(repository.findScoringPage(0L, 500)).thenReturn(estates(1, 500));
+        when(repository.findScoringPage(500L, 500)).thenReturn(estates(501, 700));
+        ScoreReader reader = new ScoreReader(repository);
+
+        // when
+        List<Estate> first = reader.read();
+        List<Estate> second = reader.read();
+        List<Estate> end = reader.read();
+
+        // then
+        assertEquals(500, first.size());
+        assertEquals(200, second.size());
+        assertEquals(501L, second.get(0).getId());
+        assertNull(end);
+        verify(repository, times(2)).findScoringPage(anyLong(), anyInt());
+    }
+
+    @Test
+    @DisplayName("마지막 묶음이 가득 찬 경우 빈 페이지를 확인한 뒤 종료한다")
+    void shouldStop_When_PageIsEmpty() {
+        // given
+        BatchEstateRepository repository = mock(BatchEstateRepository.class);
+        when(repository.findScoringPage(0L, 500)).thenReturn(estates(1, 500));
+        when(repository.findScoringPage(500L, 500)).thenReturn(List.of());
+        ScoreReader reader = new ScoreReader(repository);
+
+        // when & then
+        assertEquals(500, reader.read().size());
+        assertNull(reader.read());
+        assertNull(reader.read());
+        verify(repository, times(2)).findScoringPage(anyLong(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Step이 다시 시작되면 처음 묶음부터 다시 읽는다")
+    void shouldReadFromStart_When_StepRunsAgain() {
+        // given
+        BatchEstateRepository repository = mock(BatchEstateRepository.class);
+        when(repository.findScoringPage(0L, 500)).thenReturn(estates(1, 300));
+        ScoreReader reader = new ScoreReader(repository);
+
+        // when (같은 싱글톤 Reader로 Step을 두 번 실행)
+        reader.open(new ExecutionContext());
+        List<Estate> firstRun = reader.read();
+        assertNull(reader.read());
+
+        reader.open(new ExecutionContext());
+        List<Estate> secondRun = reader.read();
+
+        // then
+        assertEquals(300, firstRun.size());
+        assertEquals(300, secondRun.size());
+        assertEquals(1L, secondRun.get(0).getId());
+        assertNull(reader.read());
+        verify(repository, times(2)).findScoringPage(0L, 500);
+    }
+}
@@ -0,0 +1,75 @@
+package com.zipsoon.batch;
+
+import com.zipsoon.batch.infrastructure.repository.normalize.NormalizeRepository;
+import com.zipsoon.batch.job.normalize.NormalizeJobConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.scope.context.StepContext;
+import org.springframework.batch.repeat.RepeatStatus;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ScoreSummaryTaskletTest {
+
+    @Mock
+    private NormalizeRepository normalizeRepository;
+
+    @InjectMocks
+    private NormalizeJobConfig normalizeJobConfig;
+
+    private StepContribution contribution;
+    private ChunkContext chunkContext;
+
+    @BeforeEach
+    void setUp() {
+        StepExecution stepExecution = new StepExecution("scoreSummaryStep", new JobExecution(1L));
+        contribution = new StepContribution(stepExecution);
+        chunkContext = new ChunkContext(new StepContext(stepExecution));
+    }
+
+    @Test
+    @DisplayName("정규화 대기 중인 점수 유형이 없으면 요약 적재를 건너뜀")
+    void shouldSkip_When_NothingPending() throws Exception {
+        // given
+        when(normalizeRepository.hasPendingNormalization()).thenReturn(false);
+
+        // when
+        RepeatStatus status = normalizeJobConfig.scoreSummaryTasklet().execute(contribution, chunkContext);
+
+        // then
+        assertEquals(RepeatStatus.FINISHED, status);
+        verify(normalizeRepository, never()).refreshScoreSummaries();
+        verify(normalizeRepository, never()).clearPendingNormalization();
+        assertEquals(0, contribution.getWriteCount());
+    }
+
+    @Test
+    @DisplayName("정규화 대기 중인 점수 유형이 있으면 요약을 다시 적재한 뒤 대기 표시를 지움")
+    void shouldRefreshThenClearPending_When_Pending() throws Exception {
+        // given
+        when(normalizeRepository.hasPendingNormalization()).thenReturn(true);
+        when(normalizeRepository.refreshScoreSummaries()).thenReturn(42);
+
+        // when
+        RepeatStatus status = normalizeJobConfig.scoreSummaryTasklet().execute(contribution, chunkContext);
+
+        // then
+        assertEquals(RepeatStatus.FINISHED, status);
+        InOrder inOrder = inOrder(normalizeRepository);
+        inOrder.verify(normalizeRepository).refreshScoreSummaries();
+        inOrder.verify(normalizeRepository).clearPendingNormalization();
+        assertEquals(42, contribution.getWriteCount());
+    }
+}
@@ -0,0 +1,122 @@
+package com.zipsoon.batch;
+
+import com.zipsoon.batch.application.service.score.calculator.ScoreCalculator;
+import com.zipsoon.batch.infrastructure.repository.score.ScoreRepository;
+import com.zipsoon.batch.infrastructure.repository.source.SourceRepository;
+import com.zipsoon.batch.job.score.processor.ScoreProcessor;
+import com.zipsoon.batch.job.score.writer.ScoreWriter;
+import com.zipsoon.common.domain.Estate;
+import com.zipsoon.common.domain.EstateScore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.PrecisionModel;
+import org.springframework.batch.item.Chunk;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+class ScoreWriterTest {
+
+    private static final Long SCORE_TYPE_ID = 1L;
+    private static final GeometryFactory GEOMETRY_FACTORY = new GeometryFactory(new PrecisionModel(), 4326);
+
+    private ScoreCalculator calculator;
+    private ScoreProcessor processor;
+    private ScoreWriter writer;
+
+    // estate_score 테이블 대신 (매물 ID → 저장된 입력 해시)를 보관
+    private final Map<Long, Long> storedInputHashes = new HashMap<>();
+
+    private static Estate estate(Long id, double lng, double lat) {
+        return Estate.builder()
+            .id(id)
+            .location(GEOMETRY_FACTORY.createPoint(new Coordinate(lng, lat)))
+            .build();
+    }
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        calculator = mock(ScoreCalculator.class);
+        when(calculator.getScoreId()).thenReturn(SCORE_TYPE_ID);
+        when(calculator.getSourceNames()).thenReturn(List.of("parks"));
+        when(calculator.inputHash(any(Estate.class), anyLong())).thenCallRealMethod();
+        when(calculator.calculateRawScores(anyList())).thenAnswer(invocation -> {
+            Map<Long, Double> scores = new HashMap<>();
+            for (Estate estate : (List<Estate>) invocation.getArgument(0)) {
+                scores.put(estate.getId(), 5.0);
+            }
+            return scores;
+        });
+
+        SourceRepository sourceRepository = mock(SourceRepository.class);
+        when(sourceRepository.findVersionSum(List.of("parks"))).thenReturn(1L);
+
+        ScoreRepository scoreRepository = mock(ScoreRepository.class);
+        doAnswer(invocation -> {
+            for (EstateScore score : (List<EstateScore>) invocation.getArgument(0)) {
+                storedInputHashes.put(score.getEstateId(), score.getInputHash());
+            }
+            return null;
+        }).when(scoreRepository).saveAll(anyList());
+        when(scoreRepository.findInputHashes(eq(SCORE_TYPE_ID), anyList())).thenAnswer(invocation -> {
+            Map<Long, Long> hashes = new HashMap<>();
+            for (Long estateId : (List<Long>) invocation.getArgument(1)) {
+                Long hash = storedInputHashes.get(estateId);
+                if (hash != null) {
+                    hashes.put(estateId, hash);
+                }
+            }
+            return hashes;
+        });
+
+        processor = new ScoreProcessor(List.of(calculator), scoreRepository, sourceRepository, Runnable::run);
+        writer = new ScoreWriter(scoreRepository);
+    }
+
+    private int runOnce(List<Estate> estates) {
+        List<EstateScore> scores = processor.process(estates);
+        writer.write(new Chunk<>(List.of(scores)));
+        return scores.size();
+    }
+
+    @Test
+    @DisplayName("저장한 점수에 입력 해시가 남아, 입력이 그대로인 다음 실행에서는 아무것도 재계산하지 않는다")
+    void shouldRescoreNothing_When_InputsUnchangedOnSecondRun() {
+        // given
+        List<Estate> estates = List.of(estate(2L, 127.03, 37.50), estate(1L, 127.02, 37.49));
+
+        // when
+        int firstRun = runOnce(estates);
+        int secondRun = runOnce(estates);
+
+        // then
+        assertEquals(2, firstRun);
+        assertTrue(storedInputHashes.values().stream().allMatch(hash -> hash != null));
+        assertEquals(0, secondRun);
+        verify(calculator, times(1)).calculateRawScores(anyList());
+    }
+
+    @Test
+    @DisplayName("좌표가 바뀐 매물만 다음 실행에서 재계산한다")
+    void shouldRescoreOnlyMovedEstate() {
+        // given
+        runOnce(List.of(estate(1L, 127.02, 37.49), estate(2L, 127.03, 37.50)));
+
+        // when
+        int secondRun = runOnce(List.of(estate(1L, 127.02, 37.49), estate(2L, 127.04, 37.51)));
+
+        // then
+        assertEquals(1, secondRun);
+    }
+}
@@ -0,0 +1,81 @@
+package com.zipsoon.batch;
+
+import com.zipsoon.batch.job.support.ThreadPoolRepeatOperations;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ThreadPoolRepeatOperationsTest {
+
+    private static final int POOL_SIZE = 3;
+
+    private ThreadPoolTaskExecutor taskExecutor;
+
+    @BeforeEach
+    void setUp() {
+        taskExecutor = new ThreadPoolTaskExecutor();
+        taskExecutor.setCorePoolSize(POOL_SIZE);
+        taskExecutor.setMaxPoolSize(POOL_SIZE);
+        taskExecutor.initialize();
+    }
+
+    @AfterEach
+    void tearDown() {
+        taskExecutor.shutdown();
+    }
+
+    @Test
+    @DisplayName("스레드 풀 크기만큼 동시에 반복하고, 입력이 끝나면 모든 작업자가 멈춘다")
+    void shouldRunPoolSizeIterationsConcurrently_UntilFinished() {
+        // given (처음 POOL_SIZE개 반복은 모두 모일 때까지 기다리므로, 동시에 실행되지 않으면 시간 초과)
+        CyclicBarrier allWorkersStarted = new CyclicBarrier(POOL_SIZE);
+        AtomicInteger remaining = new AtomicInteger(10);
+        AtomicInteger iterations = new AtomicInteger();
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+
+        // when
+        RepeatStatus status = new ThreadPoolRepeatOperations(taskExecutor).iterate(context -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            try {
+                if (iterations.incrementAndGet() <= POOL_SIZE) {
+                    allWorkersStarted.await(5, TimeUnit.SECONDS);
+                }
+                return RepeatStatus.continueIf(remaining.decrementAndGet() > 0);
+            } finally {
+                running.decrementAndGet();
+            }
+        });
+
+        // then (입력 끝을 본 뒤에는 다른 작업자가 처리 중이던 반복까지만 실행)
+        assertEquals(RepeatStatus.FINISHED, status);
+        assertEquals(POOL_SIZE, maxRunning.get());
+        assertTrue(iterations.get() >= 10 && iterations.get() < 10 + POOL_SIZE);
+    }
+
+    @Test
+    @DisplayName("작업자 하나가 실패하면 나머지 작업자를 멈추고 첫 번째 예외를 던진다")
+    void shouldStopAndRethrow_When_IterationFails() {
+        // given
+        AtomicInteger iterations = new AtomicInteger();
+
+        // when & then
+        IllegalStateException e = assertThrows(IllegalStateException.class, () ->
+            new ThreadPoolRepeatOperations(taskExecutor).iterate(context -> {
+                if (iterations.incrementAndGet() == 5) {
+                    throw new IllegalStateException("청크 처리 실패");
+                }
+                return RepeatStatus.CONTINUABLE;
+            }));
+        assertEquals("청크 처리 실패", e.getMessage());
+    }
+}
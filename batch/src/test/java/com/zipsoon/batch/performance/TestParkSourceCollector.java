@@ -43,6 +43,11 @@ public class TestParkSourceCollector implements SourceCollector {
         this.collectorId = collectorId;
     }
 
+    @Override
+    public String getSourceName() {
+        return TABLE_NAME;
+    }
+
     @Override
     public void create() {
         try {
@@ -80,11 +85,8 @@ public class TestParkSourceCollector implements SourceCollector {
     @Override
     public void preprocess() {
         try {
-            sourceRepository.addLocationColumn(TABLE_NAME);
-            log.info("[{}] 공원 테이블에 location 컬럼을 추가했습니다.", collectorId);
-
-            int updatedRows = sourceRepository.updateLocationCoordinates(TABLE_NAME);
-            log.info("[{}] {}개의 공원 위치 데이터를 업데이트했습니다.", collectorId, updatedRows);
+            sourceRepository.createGeographyIndex(TABLE_NAME);
+            log.info("[{}] 공원 테이블에 location geography 인덱스를 생성했습니다.", collectorId);
         } catch (Exception e) {
             log.error("[{}] 전처리 작업 실패: {}", collectorId, e.getMessage(), e);
             throw new RuntimeException("전처리 실패", e);
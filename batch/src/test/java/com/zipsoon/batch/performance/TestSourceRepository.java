@@ -31,16 +31,17 @@ public class TestSourceRepository extends SourceRepository {
     }
 
     @Override
-    public void addLocationColumn(String tableName) {
-        // 테스트 환경에서는 location 컬럼을 추가하지 않음 (무시)
-        log.info("테스트 환경에서 location 컬럼 추가 생략: {}", tableName);
-    }
-
-    @Override
-    public int updateLocationCoordinates(String tableName) {
-        // 테스트 환경에서는 좌표 업데이트를 시뮬레이션만 함
-        log.info("테스트 환경에서 location 좌표 업데이트 시뮬레이션");
-        return 1; // 성공한 것처럼 반환
+    public void createGeographyIndex(String tableName) {
+        // 테스트 DDL도 location을 생성 컬럼으로 선언하므로 운영과 같은 geography 공간 인덱스를 생성
+        try {
+            String sql = "CREATE INDEX IF NOT EXISTS " + tableName + "_location_geog_idx ON " + tableName
+                + " USING GIST ((location::geography))";
+            jdbcTemplate.execute(sql);
+            log.info("공간 인덱스 생성 완료: {}", tableName);
+        } catch (Exception e) {
+            log.error("공간 인덱스 생성 실패: {}", e.getMessage(), e);
+            throw new RuntimeException("공간 인덱스 생성 실패", e);
+        }
     }
 
     @Override
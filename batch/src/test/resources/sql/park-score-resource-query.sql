@@ -17,6 +17,7 @@ CREATE TABLE IF NOT EXISTS public.parks (
 	전화번호 varchar(50) NULL,
 	데이터기준일자 date NULL,
 	제공기관코드 varchar(50) NULL,
-	제공기관명 varchar(255) NULL
---	location geometry(Point, 4326) NULL     // ParkSourceCollector.preprocess()에 의해 추가 생성
+	제공기관명 varchar(255) NULL,
+	-- COPY 적재 중 위도/경도로 계산되는 생성 열 (COPY 대상 열에서 자동 제외, 좌표가 없으면 NULL)
+	location geometry(Point, 4326) GENERATED ALWAYS AS (ST_SetSRID(ST_Point(경도, 위도), 4326)) STORED
 );
\ No newline at end of file
@@ -0,0 +1,35 @@
+package com.zipsoon.common.config.typehandler;
+
+import com.zipsoon.common.domain.value.RawJson;
+import org.apache.ibatis.type.BaseTypeHandler;
+import org.apache.ibatis.type.JdbcType;
+import org.apache.ibatis.type.MappedTypes;
+
+import java.sql.*;
+
+/**
+ * jsonb 열을 파싱하지 않은 {@link RawJson}으로 읽고 씁니다.
+ */
+@MappedTypes(RawJson.class)
+public class RawJsonTypeHandler extends BaseTypeHandler<RawJson> {
+
+    @Override
+    public void setNonNullParameter(PreparedStatement ps, int i, RawJson parameter, JdbcType jdbcType) throws SQLException {
+        ps.setObject(i, parameter.text(), Types.OTHER);
+    }
+
+    @Override
+    public RawJson getNullableResult(ResultSet rs, String columnName) throws SQLException {
+        return RawJson.ofText(rs.getString(columnName));
+    }
+
+    @Override
+    public RawJson getNullableResult(ResultSet rs, int columnIndex) throws SQLException {
+        return RawJson.ofText(rs.getString(columnIndex));
+    }
+
+    @Override
+    public RawJson getNullableResult(CallableStatement cs, int columnIndex) throws SQLException {
+        return RawJson.ofText(cs.getString(columnIndex));
+    }
+}
@@ -3,6 +3,7 @@ package com.zipsoon.common.domain;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.zipsoon.common.domain.value.Area;
 import com.zipsoon.common.domain.value.Price;
+import com.zipsoon.common.domain.value.RawJson;
 import lombok.*;
 import org.locationtech.jts.geom.Geometry;
 
@@ -22,7 +23,7 @@ public class Estate {
 
     private String platformId;
 
-    private JsonNode rawData;
+    private RawJson rawData;
 
     private String estateName;
 
@@ -110,7 +111,7 @@ public class Estate {
         return Estate.builder()
                 .platformType(platformType)
                 .platformId(platformId)
-                .rawData(rawData)
+                .rawData(RawJson.of(rawData))
                 .estateName(estateName)
                 .estateType(estateType)
                 .tradeType(tradeType)
@@ -19,6 +19,7 @@ public class EstateScore {
     private Long scoreTypeId;
     private Double rawScore;
     private Double normalizedScore;
+    private Long inputHash;
     private LocalDateTime createdAt;
     
     /**
@@ -31,6 +32,20 @@ public class EstateScore {
      * @return 생성된 매물 점수 객체
      */
     public static EstateScore of(Long estateId, Long scoreTypeId, Double rawScore) {
+        return of(estateId, scoreTypeId, rawScore, null);
+    }
+
+    /**
+     * 점수 계산 입력 해시와 함께 매물 점수 객체를 생성합니다.
+     * 입력 해시가 이전 계산과 같으면 다음 배치에서 재계산을 생략합니다.
+     *
+     * @param estateId 매물 ID
+     * @param scoreTypeId 점수 유형 ID
+     * @param rawScore 원시 점수
+     * @param inputHash 점수 계산 입력 해시
+     * @return 생성된 매물 점수 객체
+     */
+    public static EstateScore of(Long estateId, Long scoreTypeId, Double rawScore, Long inputHash) {
         if (estateId == null || scoreTypeId == null) {
             throw new IllegalArgumentException("매물 ID와 점수 유형 ID는 필수입니다");
         }
@@ -39,6 +54,7 @@ public class EstateScore {
                 .estateId(estateId)
                 .scoreTypeId(scoreTypeId)
                 .rawScore(rawScore)
+                .inputHash(inputHash)
                 .createdAt(LocalDateTime.now())
                 .build();
     }
@@ -60,6 +76,7 @@ public class EstateScore {
                 .scoreTypeId(this.scoreTypeId)
                 .rawScore(this.rawScore)
                 .normalizedScore(normalizedScore)
+                .inputHash(this.inputHash)
                 .createdAt(this.createdAt)
                 .build();
     }
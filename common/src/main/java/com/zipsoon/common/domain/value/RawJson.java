@@ -0,0 +1,87 @@
+package com.zipsoon.common.domain.value;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.util.Objects;
+
+/**
+ * 수집한 원본 JSON을 나타내는 값 객체
+ * 데이터베이스에서 읽은 값은 문자열 그대로 보관하고, {@link #node()}를 처음 호출할 때 한 번만 파싱합니다.
+ * 원본을 그대로 다시 쓰는 경로(COPY 적재 등)는 {@link #text()}를 사용하므로 파싱 비용이 들지 않습니다.
+ */
+public final class RawJson {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final String text;
+    private volatile JsonNode node;
+
+    private RawJson(String text, JsonNode node) {
+        this.text = text;
+        this.node = node;
+    }
+
+    /**
+     * 이미 파싱된 JSON으로 생성합니다.
+     *
+     * @param node JSON 노드
+     * @return RawJson 객체 (node가 null이면 null)
+     */
+    public static RawJson of(JsonNode node) {
+        return node != null ? new RawJson(null, node) : null;
+    }
+
+    /**
+     * 파싱하지 않은 JSON 문자열로 생성합니다.
+     *
+     * @param text JSON 문자열
+     * @return RawJson 객체 (text가 null이면 null)
+     */
+    public static RawJson ofText(String text) {
+        return text != null ? new RawJson(text, null) : null;
+    }
+
+    /**
+     * JSON 문자열 반환 (파싱하지 않음)
+     */
+    public String text() {
+        return text != null ? text : node.toString();
+    }
+
+    /**
+     * 파싱된 JSON 노드 반환 (최초 호출 시 파싱)
+     *
+     * @throws IllegalStateException 올바른 JSON이 아닌 경우
+     */
+    public JsonNode node() {
+        JsonNode parsed = node;
+        if (parsed == null) {
+            try {
+                parsed = MAPPER.readTree(text);
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException("원본 JSON을 파싱할 수 없습니다", e);
+            }
+            node = parsed;
+        }
+        return parsed;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        return o instanceof RawJson other && text().equals(other.text());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(text());
+    }
+
+    @Override
+    public String toString() {
+        return text();
+    }
+}
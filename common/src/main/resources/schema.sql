@@ -18,7 +18,9 @@ CREATE TABLE estate (
     image_urls varchar[] DEFAULT '{}',                  -- 이미지 URL 배열
     tags varchar[],                                     -- 태그 배열 (특징, 키워드 등)
     dong_code varchar(10),                              -- 법정동 코드
-    created_at timestamp NOT NULL DEFAULT CURRENT_TIMESTAMP  -- 레코드 생성 시간
+    created_at timestamp NOT NULL DEFAULT CURRENT_TIMESTAMP, -- 레코드 생성 시간
+    updated_at timestamp,                               -- 원본 데이터가 마지막으로 바뀐 시간
+    deleted_at timestamp                                -- 매물이 내려간 시간 (NULL이면 게시 중)
 );
 
 CREATE INDEX estate_location_idx ON estate USING GIST (location);  -- 공간 검색을 위한 인덱스
@@ -42,7 +44,23 @@ CREATE TABLE estate_snapshot (
     image_urls varchar[] DEFAULT '{}',                  -- 이미지 URL 배열
     tags varchar[],                                     -- 태그 배열
     dong_code varchar(10),                              -- 법정동 코드
-    created_at timestamp NOT NULL DEFAULT CURRENT_TIMESTAMP  -- 레코드 생성 시간
+    created_at timestamp NOT NULL DEFAULT CURRENT_TIMESTAMP, -- 레코드 생성 시간
+    snapshot_at timestamp NOT NULL DEFAULT CURRENT_TIMESTAMP -- 스냅샷 저장 시간 (변경 또는 삭제 시점)
+);
+
+CREATE INDEX estate_snapshot_platform_idx ON estate_snapshot (platform_type, platform_id);  -- 매물 이력 조회 인덱스
+
+-- 이번 수집에서 확인된 매물 키: 수집 시작 시 비우고 종료 후 내려간 매물 판별에만 사용 (WAL 미기록)
+CREATE UNLOGGED TABLE estate_seen (
+    platform_type varchar(20) NOT NULL,                 -- 매물 플랫폼 유형
+    platform_id varchar(50) NOT NULL,                   -- 플랫폼에서의 매물 ID
+
+    PRIMARY KEY (platform_type, platform_id)
+);
+
+-- 이번 수집에서 마지막 페이지까지 수집을 마친 법정동: 내려간 매물 판별 범위로 사용 (WAL 미기록)
+CREATE UNLOGGED TABLE estate_collected_dong (
+    dong_code varchar(10) PRIMARY KEY                   -- 수집 완료된 법정동 코드
 );
 
 -- 점수 유형 테이블: 매물 평가 기준 정의
@@ -51,6 +69,7 @@ CREATE TABLE score_type (
     name varchar(50) NOT NULL UNIQUE,                    -- 점수 유형 이름 (공원, 지하철 등)
     description text,                                     -- 점수 유형 설명
     active boolean DEFAULT true,                          -- 활성화 여부
+    normalize_pending boolean NOT NULL DEFAULT true,      -- 원시 점수가 바뀌어 정규화가 필요한지 여부
     created_at timestamp NOT NULL DEFAULT CURRENT_TIMESTAMP  -- 생성 시간
 );
 
@@ -65,6 +84,7 @@ CREATE TABLE estate_score (
     score_type_id int NOT NULL,                         -- score_type 테이블 참조
     raw_score numeric(5,2) NOT NULL,                    -- 원시 점수 (계산된 실제 값)
     normalized_score numeric(5,2),                      -- 정규화된 점수 (0-10 점)
+    input_hash bigint,                                  -- 점수 계산 입력 해시 (매물 좌표 + 소스 데이터 버전, 같으면 재계산 생략)
     created_at timestamp NOT NULL DEFAULT CURRENT_TIMESTAMP,  -- 생성 시간
 
     FOREIGN KEY (estate_id) REFERENCES estate(id),      -- estate 테이블 외래키
@@ -72,9 +92,22 @@ CREATE TABLE estate_score (
 );
 
 CREATE INDEX idx_estate_score_estate_id ON estate_score(estate_id);  -- 매물 조회 인덱스
-CREATE INDEX idx_estate_score_type_id ON estate_score(score_type_id);  -- 점수 조회 인덱스
+CREATE INDEX idx_estate_score_type_id ON estate_score(score_type_id, id);  -- 점수 유형별 조회 인덱스 (id 순 페이지 조회)
 CREATE UNIQUE INDEX uk_estate_score_estate_type ON estate_score(estate_id, score_type_id);  -- 매물-점수 제약조건
 
+-- 매물 점수 요약 테이블: 정규화 후 배치가 매물별 점수 요약을 미리 계산해 저장 (지도 조회용)
+CREATE TABLE estate_score_summary (
+    estate_id bigint PRIMARY KEY,                       -- estate 테이블 참조
+    factor_ids bigint[] NOT NULL DEFAULT '{}',          -- 점수 유형 ID 배열 (정규화 점수 내림차순)
+    factor_scores float8[] NOT NULL DEFAULT '{}',       -- 정규화 점수 배열 (factor_ids와 같은 순서)
+    score_sum float8 NOT NULL DEFAULT 0,                -- 정규화 점수 합계 (비활성화 요소 차감용)
+    score_count int NOT NULL DEFAULT 0,                 -- 정규화 점수가 있는 요소 개수
+    total_score float8 NOT NULL DEFAULT 0,              -- 기본 평균 점수 (비활성화 없음)
+    updated_at timestamp NOT NULL DEFAULT CURRENT_TIMESTAMP,  -- 갱신 시간
+
+    FOREIGN KEY (estate_id) REFERENCES estate(id) ON DELETE CASCADE
+);
+
 -- 과거 부동산 점수 스냅샷 테이블: 매물 점수 이력 관리용
 CREATE TABLE estate_score_snapshot (
     id bigserial PRIMARY KEY,                           -- 고유 식별자
@@ -118,6 +151,19 @@ CREATE TABLE user_favorite_estate (
     FOREIGN KEY (estate_id) REFERENCES estate(id) ON DELETE CASCADE
 );
 
+-- 데이터 세대 테이블: 배치 파이프라인이 데이터를 갱신할 때마다 한 행씩 기록 (API 캐시 갱신 기준)
+CREATE TABLE data_generation (
+    id bigserial PRIMARY KEY,                           -- 세대 번호 (증가값)
+    created_at timestamp NOT NULL DEFAULT CURRENT_TIMESTAMP  -- 기록 시간
+);
+
+-- 소스 데이터 버전 테이블: 소스 데이터를 다시 적재할 때마다 버전 증가 (점수 재계산 판단 기준)
+CREATE TABLE source_version (
+    source_name varchar(50) PRIMARY KEY,                -- 소스 테이블 이름 (parks 등)
+    version bigint NOT NULL DEFAULT 1,                  -- 적재 버전 (증가값)
+    updated_at timestamp NOT NULL DEFAULT CURRENT_TIMESTAMP  -- 마지막 적재 시간
+);
+
 -- 법정동 코드 테이블: 시/군/구/동 코드 정보
 CREATE TABLE dongcodes (
     법정동코드 varchar(255) PRIMARY KEY,